@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manages the lifecycle of class-level namespaces declared via {@link ClassNamespace}.
@@ -78,7 +79,8 @@ class ClassNamespaceService {
      */
     void createClassNamespaces(ExtensionContext context) {
         Class<?> testClass = context.getRequiredTestClass();
-        List<ClassNamespaceEntry> entries = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        List<Supplier<ClassNamespaceEntry>> creations = new ArrayList<>();
 
         for (Field field : testClass.getDeclaredFields()) {
             ClassNamespace annotation = field.getAnnotation(ClassNamespace.class);
@@ -88,13 +90,19 @@ class ClassNamespaceService {
 
             validateField(field);
 
-            ClassNamespaceEntry entry = createNamespaceEntry(annotation, field.getName(), context);
-            entries.add(entry);
+            fields.add(field);
+            creations.add(() -> createNamespaceEntry(annotation, field.getName(), context));
+        }
+
+        // Create all namespaces concurrently, including those in different kubeContexts
+        List<ClassNamespaceEntry> entries = NamespaceBatch.createAll(creations);
 
-            // Inject the static field immediately
+        // Inject the static fields once all namespaces are ready
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
             try {
                 field.setAccessible(true);
-                field.set(null, entry.namespace());
+                field.set(null, entries.get(i).namespace());
             } catch (IllegalAccessException e) {
                 throw new RuntimeException(
                     "Failed to inject @ClassNamespace field '" + field.getName() + "'", e);
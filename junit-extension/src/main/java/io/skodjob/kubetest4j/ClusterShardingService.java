@@ -0,0 +1,105 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.enums.ShardingStrategy;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distributes test classes across identical clusters.
+ * <p>
+ * Every top-level test class is assigned to one cluster context when it starts and released when it finishes.
+ * The extension binds the primary {@link io.skodjob.kubetest4j.resources.KubeResourceManager} of the class
+ * to the assigned context, so tests run against all clusters without any change. The assignment is shared
+ * by all extension instances of the test run.
+ */
+class ClusterShardingService {
+
+    private final ShardingStrategy strategy;
+    private final List<String> contexts;
+    private final Map<String, Integer> activeClasses = new HashMap<>();
+    private int next;
+
+    /**
+     * Creates a new ClusterShardingService.
+     *
+     * @param strategy strategy of the assignment
+     * @param contexts cluster contexts test classes are distributed across
+     */
+    ClusterShardingService(ShardingStrategy strategy, Collection<String> contexts) {
+        this.strategy = strategy;
+        // the default context goes first, the rest is sorted so the assignment is the same in every run
+        this.contexts = contexts.stream()
+            .sorted(Comparator.comparing((String id) -> !KubeTestConstants.DEFAULT_CONTEXT_NAME.equals(id))
+                .thenComparing(Comparator.naturalOrder()))
+            .toList();
+        this.contexts.forEach(id -> activeClasses.put(id, 0));
+    }
+
+    /**
+     * Returns whether test classes are distributed across more than one context.
+     *
+     * @return true if sharding is enabled
+     */
+    boolean isEnabled() {
+        return strategy != ShardingStrategy.NONE && contexts.size() > 1;
+    }
+
+    /**
+     * Assigns a cluster context to a starting test class.
+     *
+     * @return assigned cluster context
+     */
+    synchronized String acquire() {
+        String assigned = switch (strategy) {
+            case NONE -> KubeTestConstants.DEFAULT_CONTEXT_NAME;
+            case ROUND_ROBIN -> {
+                String id = contexts.get(next);
+                next = (next + 1) % contexts.size();
+                yield id;
+            }
+            case LEAST_LOADED -> leastLoaded();
+        };
+        activeClasses.merge(assigned, 1, Integer::sum);
+        return assigned;
+    }
+
+    /**
+     * Releases the cluster context of a finished test class.
+     *
+     * @param context cluster context returned by {@link #acquire()}
+     */
+    synchronized void release(String context) {
+        activeClasses.computeIfPresent(context, (id, active) -> Math.max(0, active - 1));
+    }
+
+    /**
+     * Returns number of test classes running against the context
+     *
+     * @param context cluster context
+     * @return number of running test classes
+     */
+    synchronized int activeClasses(String context) {
+        return activeClasses.getOrDefault(context, 0);
+    }
+
+    private String leastLoaded() {
+        // ties are broken in round-robin order, so idle clusters are used evenly
+        String best = null;
+        for (int i = 0; i < contexts.size(); i++) {
+            String candidate = contexts.get((next + i) % contexts.size());
+            if (best == null || activeClasses.get(candidate) < activeClasses.get(best)) {
+                best = candidate;
+            }
+        }
+        next = (contexts.indexOf(best) + 1) % contexts.size();
+        return best;
+    }
+}
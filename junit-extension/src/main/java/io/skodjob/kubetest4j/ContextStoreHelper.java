@@ -11,8 +11,10 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * Helper class that centralizes all ExtensionContext.Store access patterns.
@@ -29,6 +31,7 @@ class ContextStoreHelper {
     private static final String CREATED_NAMESPACE_KEY = "kubernetes.test.createdNamespace";
     private static final String CREATED_NAMESPACE_NAMES_KEY = "kubernetes.test.createdNamespaceNames";
     private static final String LOG_COLLECTOR_KEY = "kubernetes.test.logCollector";
+    private static final String SHARD_CONTEXT_KEY = "kubernetes.test.shardContext";
 
     // Multi-kubeContext extension store keys
     private static final String CONTEXT_MANAGERS_KEY = "kubernetes.test.contextManagers";
@@ -42,6 +45,15 @@ class ContextStoreHelper {
     // Method namespace store keys (stored in method-level ExtensionContext)
     private static final String METHOD_NAMESPACE_ENTRIES_KEY = "kubernetes.test.methodNamespaceEntries";
 
+    // Method namespace pools (stored in root ExtensionContext, shared by the test run)
+    private static final String NAMESPACE_POOL_KEY_PREFIX = "kubernetes.test.namespacePool.";
+
+    // Wait report writer (stored in root ExtensionContext, written when the test run finishes)
+    private static final String WAIT_REPORT_KEY = "kubernetes.test.waitReport";
+
+    // Deferred teardowns of test methods (stored in class-level ExtensionContext, keyed by its unique id)
+    private static final String DEFERRED_TEARDOWNS_KEY_PREFIX = "kubernetes.test.deferredTeardowns.";
+
     // Resource types: saved previous value for restore in afterAll
     private static final String PREVIOUS_RESOURCE_TYPES_KEY = "kubernetes.test.previousResourceTypes";
 
@@ -117,6 +129,20 @@ class ContextStoreHelper {
         put(context, LOG_COLLECTOR_KEY, logCollector);
     }
 
+    /**
+     * Gets the cluster context assigned to the test class by sharding, nested classes see the one of their parent.
+     */
+    public String getShardContext(ExtensionContext context) {
+        return get(context, SHARD_CONTEXT_KEY, String.class);
+    }
+
+    /**
+     * Stores the cluster context assigned to the test class by sharding.
+     */
+    public void putShardContext(ExtensionContext context, String shardContext) {
+        put(context, SHARD_CONTEXT_KEY, shardContext);
+    }
+
     /**
      * Gets the namespace objects map from the extension kubeContext.
      */
@@ -331,6 +357,53 @@ class ContextStoreHelper {
         return getUnchecked(context, METHOD_NAMESPACE_ENTRIES_KEY);
     }
 
+    /**
+     * Gets or creates a method namespace pool shared by the whole test run.
+     * The pool is stored in the root context, so JUnit closes it when the test run finishes.
+     *
+     * @param context the extension context
+     * @param key     key of the pool, derived from the pool settings
+     * @param factory creates the pool when it does not exist yet
+     * @return the namespace pool
+     */
+    public NamespacePool getOrCreateNamespacePool(ExtensionContext context, String key,
+                                                  Supplier<NamespacePool> factory) {
+        return context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+            .computeIfAbsent(NAMESPACE_POOL_KEY_PREFIX + key, k -> factory.get(), NamespacePool.class);
+    }
+
+    /**
+     * Gets or creates the wait report writer of the test run.
+     * The writer is stored in the root context, so JUnit closes it, writing the report, when the test run finishes.
+     *
+     * @param context the extension context
+     * @param factory creates the writer when it does not exist yet
+     * @return the wait report writer
+     */
+    public WaitReportWriter getOrCreateWaitReport(ExtensionContext context, Supplier<WaitReportWriter> factory) {
+        return context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+            .computeIfAbsent(WAIT_REPORT_KEY, k -> factory.get(), WaitReportWriter.class);
+    }
+
+    // ===============================
+    // Deferred Teardown Store Operations
+    // ===============================
+
+    /**
+     * Gets or creates the deferred teardowns started by test methods of a test class.
+     * The key contains the unique id of the class context, so a nested class never sees the teardowns
+     * of its enclosing class through the parent store.
+     *
+     * @param classContext the class-level extension context
+     * @return deferred teardowns of the class
+     */
+    @SuppressWarnings("unchecked")
+    public List<CompletableFuture<Void>> getOrCreateDeferredTeardowns(ExtensionContext classContext) {
+        return (List<CompletableFuture<Void>>) classContext.getStore(ExtensionContext.Namespace.GLOBAL)
+            .computeIfAbsent(DEFERRED_TEARDOWNS_KEY_PREFIX + classContext.getUniqueId(),
+                k -> new CopyOnWriteArrayList<>(), List.class);
+    }
+
     // ===============================
     // Resource Types Store Operations
     // ===============================
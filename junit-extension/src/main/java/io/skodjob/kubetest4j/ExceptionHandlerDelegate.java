@@ -129,7 +129,7 @@ class ExceptionHandlerDelegate {
         }
 
         // Handle cleanup on failure
-        if (testConfig.cleanup() == CleanupStrategy.AUTOMATIC) {
+        if (testConfig.cleanup() != CleanupStrategy.MANUAL) {
             LOGGER.info("Cleaning up resources due to test failure in phase: {}", phase);
             cleanupCallback.handleAutomaticCleanup(context, testConfig);
         }
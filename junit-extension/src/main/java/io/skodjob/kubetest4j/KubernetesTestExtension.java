@@ -10,6 +10,7 @@ import io.skodjob.kubetest4j.annotations.LogCollectionStrategy;
 import io.skodjob.kubetest4j.interfaces.ResourceType;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
 import io.skodjob.kubetest4j.utils.LoggerUtils;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
@@ -25,7 +26,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JUnit 6 extension for Kubernetes testing.
@@ -56,6 +59,10 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesTestExtension.class);
 
+    // Distribution of test classes across clusters, shared by all extension instances of the test run
+    private static final ClusterShardingService CLUSTER_SHARDING =
+        new ClusterShardingService(KubeTestEnv.SHARDING_STRATEGY, KubeTestEnv.CLUSTER_CONFIGS.keySet());
+
     // Helper for kubeContext store operations
     private final ContextStoreHelper contextStoreHelper;
 
@@ -128,11 +135,15 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
         TestConfig testConfig = configurationService.createAndStoreTestConfig(context);
 
         // Set up KubeResourceManager
-        String contextId = KubeTestConstants.DEFAULT_CONTEXT_NAME;
+        String contextId = resolveShardContext(context);
         KubeResourceManager resourceManager = KubeResourceManager.getForContext(contextId);
 
         resourceManager.setTestContext(context);
+        if (contextStoreHelper.getShardContext(context) != null) {
+            resourceManager.setClusterContext(contextId);
+        }
         contextStoreHelper.putResourceManager(context, resourceManager);
+        setupWaitReport(context);
 
         // Register resource types from @KubernetesTest annotation
         registerResourceTypes(context, resourceManager);
@@ -166,25 +177,35 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
             return;
         }
 
-        // Handle cleanup by delegating to ResourceManager logic
-        handleAutomaticCleanup(context, testConfig);
+        try {
+            // Handle cleanup by delegating to ResourceManager logic
+            handleAutomaticCleanup(context, testConfig);
+        } finally {
+            try {
+                // Clean up class namespaces (only those created by the test)
+                classNamespaceService.cleanupClassNamespaces(context);
+            } finally {
+                // Release the cluster of a sharded top-level class, nested classes share the cluster of their parent
+                String shardContext = contextStoreHelper.getShardContext(context);
+                if (shardContext != null && !isShardInherited(context)) {
+                    CLUSTER_SHARDING.release(shardContext);
+                }
 
-        // Clean up class namespaces (only those created by the test)
-        classNamespaceService.cleanupClassNamespaces(context);
+                // Restore previous resource types to prevent leaking to next class
+                ResourceType<?>[] previousTypes = contextStoreHelper.getPreviousResourceTypes(context);
+                if (previousTypes != null) {
+                    KubeResourceManager resourceManager = getResourceManager(context);
+                    if (resourceManager != null) {
+                        resourceManager.setResourceTypes(previousTypes);
+                        LOGGER.debug("Restored previous resource types ({} type(s))", previousTypes.length);
+                    }
+                }
 
-        // Restore previous resource types to prevent leaking to next class
-        ResourceType<?>[] previousTypes = contextStoreHelper.getPreviousResourceTypes(context);
-        if (previousTypes != null) {
-            KubeResourceManager resourceManager = getResourceManager(context);
-            if (resourceManager != null) {
-                resourceManager.setResourceTypes(previousTypes);
-                LOGGER.debug("Restored previous resource types ({} type(s))", previousTypes.length);
+                // Clean up ThreadLocal variables to prevent thread reuse issues
+                cleanupThreadLocalVariables(context);
             }
         }
 
-        // Clean up ThreadLocal variables to prevent thread reuse issues
-        cleanupThreadLocalVariables(context);
-
         LOGGER.info("TestClass {} FINISHED", context.getRequiredTestClass().getName());
         logVisualSeparator(context);
     }
@@ -199,6 +220,11 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
         KubeResourceManager resourceManager = getResourceManager(context);
         if (resourceManager != null) {
             resourceManager.setTestContext(context);
+            // Test methods may run on other threads than beforeAll, bind the cluster of a sharded class again
+            String shardContext = contextStoreHelper.getShardContext(context);
+            if (shardContext != null) {
+                resourceManager.setClusterContext(shardContext);
+            }
         }
 
         // Create method namespaces before field injection so they are available for @MethodNamespace
@@ -236,6 +262,13 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
         // resources inside namespaces are deleted before the namespaces themselves
         handleAutomaticCleanup(context, testConfig);
 
+        // Hand the thread back to the class context, so @AfterAll methods and tests of other classes
+        // scheduled on this thread by parallel execution do not store resources under the finished test
+        KubeResourceManager resourceManager = getResourceManager(context);
+        if (resourceManager != null) {
+            context.getParent().ifPresent(resourceManager::setTestContext);
+        }
+
         LOGGER.info("Test {}.{} {}", context.getRequiredTestClass().getName(),
             context.getDisplayName().replace("()", ""), state);
         logVisualSeparator(context);
@@ -389,13 +422,93 @@ public class KubernetesTestExtension implements BeforeAllCallback, AfterAllCallb
      * of looking for @ResourceManager annotation.
      */
     private void handleAutomaticCleanup(ExtensionContext context, TestConfig testConfig) {
-        if (testConfig.cleanup() == CleanupStrategy.AUTOMATIC) {
-            KubeResourceManager resourceManager = contextStoreHelper.getResourceManager(context);
-            resourceManager.setTestContext(context);
-            resourceManager.deleteResources(true);
+        if (testConfig.cleanup() == CleanupStrategy.MANUAL) {
+            return;
+        }
+        KubeResourceManager resourceManager = contextStoreHelper.getResourceManager(context);
+        resourceManager.setTestContext(context);
+        if (testConfig.cleanup() == CleanupStrategy.DEFERRED && context.getTestMethod().isPresent()) {
+            // Test method resources are deleted in the background while the next test runs
+            context.getParent().ifPresent(classContext -> contextStoreHelper.getOrCreateDeferredTeardowns(classContext)
+                .add(resourceManager.deleteResourcesDeferred()));
+        } else {
+            try {
+                // Class level cleanup is the barrier for deferred deletions of its own test methods,
+                // classes running in parallel share the resource manager but not their teardowns
+                awaitDeferredTeardowns(context);
+            } finally {
+                resourceManager.deleteResources(true);
+            }
         }
     }
 
+    /**
+     * Waits for deferred teardowns started by test methods of the class.
+     *
+     * @throws java.util.concurrent.CompletionException when some deferred teardown failed
+     */
+    private void awaitDeferredTeardowns(ExtensionContext classContext) {
+        List<CompletableFuture<Void>> teardowns = contextStoreHelper.getOrCreateDeferredTeardowns(classContext);
+        if (teardowns.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Void>> pending = List.copyOf(teardowns);
+        teardowns.removeAll(pending);
+        LOGGER.info("Waiting for {} deferred deletion(s) of {}", pending.size(), classContext.getDisplayName());
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Resolves the cluster context of the test class. With sharding enabled, top-level classes are assigned
+     * a context by {@link ClusterShardingService} and nested classes inherit the context of their parent.
+     */
+    private String resolveShardContext(ExtensionContext context) {
+        String inherited = contextStoreHelper.getShardContext(context);
+        if (inherited != null) {
+            return inherited;
+        }
+        if (!CLUSTER_SHARDING.isEnabled()) {
+            return KubeTestConstants.DEFAULT_CONTEXT_NAME;
+        }
+        String shardContext = CLUSTER_SHARDING.acquire();
+        contextStoreHelper.putShardContext(context, shardContext);
+        LOGGER.info("TestClass {} runs against cluster context {}", context.getRequiredTestClass().getName(),
+            shardContext);
+        return shardContext;
+    }
+
+    /**
+     * Attributes waits recorded by {@link WaitTelemetry} to the running test and registers the writer
+     * of the wait report, unless it is disabled by an empty {@link KubeTestEnv#WAIT_REPORT_PATH}.
+     */
+    private void setupWaitReport(ExtensionContext context) {
+        // set once for the whole run, the test context is a thread local, so parallel classes resolve their own
+        WaitTelemetry.setTestResolver(() -> testName(KubeResourceManager.get().getTestContext()));
+        if (!KubeTestEnv.WAIT_REPORT_PATH.isEmpty()) {
+            contextStoreHelper.getOrCreateWaitReport(context,
+                () -> new WaitReportWriter(Paths.get(KubeTestEnv.WAIT_REPORT_PATH)));
+        }
+    }
+
+    /**
+     * Returns name of the test as TestClass#testMethod, or TestClass for class level callbacks
+     */
+    static String testName(ExtensionContext context) {
+        if (context == null || context.getTestClass().isEmpty()) {
+            return null;
+        }
+        String className = context.getRequiredTestClass().getSimpleName();
+        return context.getTestMethod()
+            .map(method -> className + "#" + method.getName())
+            .orElse(className);
+    }
+
+    private boolean isShardInherited(ExtensionContext context) {
+        return context.getParent()
+            .map(contextStoreHelper::getShardContext)
+            .isPresent();
+    }
+
     /**
      * Cleans up ThreadLocal variables in KubeResourceManager to prevent thread reuse issues.
      * This is critical for parallel test execution and thread pool reuse.
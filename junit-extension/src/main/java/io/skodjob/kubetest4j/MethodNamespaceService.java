@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.skodjob.kubetest4j.annotations.ClassNamespace;
 import io.skodjob.kubetest4j.annotations.MethodNamespace;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
+import io.skodjob.kubetest4j.resources.ResourceItem;
 import io.skodjob.kubetest4j.utils.LoggerUtils;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.slf4j.Logger;
@@ -23,6 +24,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Manages the lifecycle of method namespaces created per test method.
@@ -37,6 +41,7 @@ import java.util.Map;
  *     <li>Scanning test classes for {@link MethodNamespace} annotations</li>
  *     <li>Generating unique, K8s-legal namespace names</li>
  *     <li>Creating namespaces via {@link KubeResourceManager}</li>
+ *     <li>Handing out pre-created namespaces from a {@link NamespacePool}</li>
  * </ul>
  */
 class MethodNamespaceService {
@@ -87,8 +92,7 @@ class MethodNamespaceService {
      */
     void createMethodNamespaces(ExtensionContext context) {
         Class<?> testClass = context.getRequiredTestClass();
-        List<MethodNamespaceEntry> entries = new ArrayList<>();
-        int[] counter = {0};
+        List<Supplier<MethodNamespaceEntry>> creations = new ArrayList<>();
 
         // Scan fields for @MethodNamespace
         for (Field field : testClass.getDeclaredFields()) {
@@ -99,14 +103,16 @@ class MethodNamespaceService {
 
             validateField(field);
 
-            MethodNamespaceEntry entry = createNamespaceEntry(
-                annotation, field.getName(), context, counter[0]++);
-            entries.add(entry);
+            int index = creations.size();
+            creations.add(() -> createNamespaceEntry(annotation, field.getName(), context, index));
         }
 
         // Scan current test method parameters for @MethodNamespace
         context.getTestMethod().ifPresent(method ->
-            scanMethodParameters(method, context, entries, counter));
+            scanMethodParameters(method, context, creations));
+
+        // Create all namespaces concurrently, they are injected once all of them are ready
+        List<MethodNamespaceEntry> entries = NamespaceBatch.createAll(creations);
 
         if (!entries.isEmpty()) {
             contextStoreHelper.putMethodNamespaceEntries(context, entries);
@@ -141,7 +147,7 @@ class MethodNamespaceService {
     // ===============================
 
     private void scanMethodParameters(Method method, ExtensionContext context,
-                                      List<MethodNamespaceEntry> entries, int[] counter) {
+                                      List<Supplier<MethodNamespaceEntry>> creations) {
         for (Parameter parameter : method.getParameters()) {
             MethodNamespace annotation = parameter.getAnnotation(MethodNamespace.class);
             if (annotation == null) {
@@ -154,9 +160,8 @@ class MethodNamespaceService {
                         + "' must be of type Namespace, but is " + parameter.getType().getSimpleName());
             }
 
-            MethodNamespaceEntry entry = createNamespaceEntry(
-                annotation, parameter.toString(), context, counter[0]++);
-            entries.add(entry);
+            int index = creations.size();
+            creations.add(() -> createNamespaceEntry(annotation, parameter.toString(), context, index));
         }
     }
 
@@ -174,6 +179,11 @@ class MethodNamespaceService {
         Map<String, String> labels = parseKeyValuePairs(annotation.labels());
         Map<String, String> annotations = parseKeyValuePairs(annotation.annotations());
 
+        if (annotation.poolSize() > 0) {
+            return acquirePooledNamespaceEntry(annotation, sourceIdentity, context, resourceManager,
+                labels, annotations);
+        }
+
         Namespace namespace = new NamespaceBuilder()
             .withNewMetadata()
             .withName(namespaceName)
@@ -204,6 +214,31 @@ class MethodNamespaceService {
         return new MethodNamespaceEntry(actualNamespace, sourceIdentity);
     }
 
+    private MethodNamespaceEntry acquirePooledNamespaceEntry(MethodNamespace annotation,
+                                                             String sourceIdentity,
+                                                             ExtensionContext context,
+                                                             KubeResourceManager resourceManager,
+                                                             Map<String, String> labels,
+                                                             Map<String, String> annotations) {
+        // the resolved context, an empty kubeContext means the primary context of the test class
+        String poolKey = String.join("|", resourceManager.getContextId(), annotation.prefix(),
+            new TreeMap<>(labels).toString(), new TreeMap<>(annotations).toString());
+        NamespacePool pool = contextStoreHelper.getOrCreateNamespacePool(context, poolKey, () ->
+            new NamespacePool(resourceManager, annotation.prefix(), labels, annotations, annotation.poolSize(),
+                () -> generatePoolNamespaceName(annotation.prefix())));
+        pool.ensureSize(annotation.poolSize());
+
+        Namespace namespace = pool.acquire();
+
+        // The pool deletes the namespace without waiting and creates a replacement.
+        // Resources created inside the namespace are above it on the stack and are deleted first.
+        resourceManager.pushToStack(new ResourceItem<>(() -> pool.release(namespace), namespace));
+
+        LOGGER.debug("Acquired pooled method namespace '{}' for source '{}'",
+            namespace.getMetadata().getName(), sourceIdentity);
+        return new MethodNamespaceEntry(namespace, sourceIdentity);
+    }
+
     private KubeResourceManager resolveResourceManager(ExtensionContext context, String kubeContext) {
         if (kubeContext.isEmpty()) {
             KubeResourceManager rm = contextStoreHelper.getResourceManager(context);
@@ -280,6 +315,24 @@ class MethodNamespaceService {
         return sanitizedPrefix + "-" + sanitizedMethod + "-" + suffix;
     }
 
+    /**
+     * Generates a unique, K8s-legal name of a pooled namespace.
+     * <p>
+     * Format: {@code <prefix>-pool-<random>}, the test method is not known when the namespace is created.
+     *
+     * @param prefix the namespace prefix from the annotation
+     * @return a DNS-1123 compliant namespace name
+     */
+    static String generatePoolNamespaceName(String prefix) {
+        String suffix = "pool-" + UUID.randomUUID().toString().substring(0, 8);
+        String sanitizedPrefix = sanitizeDnsLabel(prefix);
+        int availableForPrefix = MAX_NAMESPACE_LENGTH - suffix.length() - 1;
+        if (sanitizedPrefix.length() > availableForPrefix) {
+            sanitizedPrefix = stripTrailingDashes(sanitizedPrefix.substring(0, availableForPrefix));
+        }
+        return sanitizedPrefix.isEmpty() ? suffix : sanitizedPrefix + "-" + suffix;
+    }
+
     private static String sanitizeDnsLabel(String input) {
         String result = input.toLowerCase()
             .replaceAll("[^a-z0-9-]", "-")
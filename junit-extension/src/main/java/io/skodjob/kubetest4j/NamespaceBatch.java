@@ -0,0 +1,55 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.resources.KubeResourceManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Creates all namespaces declared by a test class or a test method at once.
+ * <p>
+ * Each namespace is created by a blocking create and GET, so declaring several namespaces used to add up
+ * their latencies. The creations run concurrently on the executor of {@link KubeResourceManager}, which carries
+ * the test and cluster context of the caller into its threads, so namespaces of different kubeContexts are
+ * created at the same time as well.
+ */
+final class NamespaceBatch {
+
+    private NamespaceBatch() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Runs all creations concurrently and waits until all of them are finished.
+     *
+     * @param creations creations of the declared namespaces
+     * @param <T>       type of the created entries
+     * @return created entries in the order of the creations
+     */
+    static <T> List<T> createAll(List<Supplier<T>> creations) {
+        if (creations.size() < 2) {
+            return creations.stream().map(Supplier::get).toList();
+        }
+        Executor executor = KubeResourceManager.current().getExecutor();
+        List<CompletableFuture<T>> futures = creations.stream()
+            .map(creation -> CompletableFuture.supplyAsync(creation, executor))
+            .toList();
+        try {
+            // allOf completes after all creations, so no creation is left running when the first one fails
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.skodjob.kubetest4j.annotations.MethodNamespace;
+import io.skodjob.kubetest4j.resources.KubeResourceManager;
+import io.skodjob.kubetest4j.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of pre-created namespaces handed out to {@link MethodNamespace} injections.
+ * <p>
+ * The pool keeps {@code size} namespaces created in the background, so a test gets its namespace without
+ * waiting for the API server. A namespace released after the test is never reused, it is deleted in the
+ * background without waiting for its finalization and a fresh one is created in its place. Namespace
+ * creation and deletion are therefore off the critical path of every test method.
+ * <p>
+ * Pools are shared by all test classes with the same {@link MethodNamespace} settings and closed at the end
+ * of the test run, which deletes the namespaces still waiting in the pool. Pooled namespaces are recorded
+ * in the resource journal, so they are recovered like any other resource when the JVM dies.
+ */
+class NamespacePool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NamespacePool.class);
+
+    /**
+     * Label set on all pooled namespaces, the value is the pool prefix.
+     */
+    static final String POOL_LABEL = KubeTestConstants.LABEL_PREFIX + "namespace-pool";
+
+    private final KubeResourceManager resourceManager;
+    private final String prefix;
+    private final Map<String, String> labels;
+    private final Map<String, String> annotations;
+    private final Supplier<String> nameGenerator;
+    private final AtomicInteger size;
+    private final BlockingQueue<Namespace> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates the pool and starts pre-creating its namespaces.
+     *
+     * @param resourceManager resource manager of the kube context the namespaces are created in
+     * @param prefix          prefix of the pooled namespaces
+     * @param labels          labels of the pooled namespaces
+     * @param annotations     annotations of the pooled namespaces
+     * @param size            number of namespaces kept ready
+     * @param nameGenerator   generator of unique namespace names
+     */
+    NamespacePool(KubeResourceManager resourceManager, String prefix, Map<String, String> labels,
+                  Map<String, String> annotations, int size, Supplier<String> nameGenerator) {
+        this.resourceManager = resourceManager;
+        this.prefix = prefix;
+        this.labels = new HashMap<>(labels);
+        this.labels.put(POOL_LABEL, prefix);
+        this.annotations = Map.copyOf(annotations);
+        this.size = new AtomicInteger(size);
+        this.nameGenerator = nameGenerator;
+        refill();
+    }
+
+    /**
+     * Grows the pool, pools are shared and the largest requested size wins.
+     *
+     * @param requestedSize requested number of namespaces kept ready
+     */
+    void ensureSize(int requestedSize) {
+        if (size.accumulateAndGet(requestedSize, Math::max) == requestedSize) {
+            refill();
+        }
+    }
+
+    /**
+     * Takes a ready namespace from the pool. When the pool is empty, the namespace is created right away.
+     *
+     * @return namespace owned by the caller until it is released
+     */
+    Namespace acquire() {
+        Namespace namespace = ready.poll();
+        if (namespace == null) {
+            LOGGER.debug("Namespace pool '{}' is empty, creating namespace on demand", prefix);
+            namespace = createNamespace();
+        }
+        refill();
+        return namespace;
+    }
+
+    /**
+     * Returns the namespace after the test. The namespace is deleted in the background and replaced
+     * by a fresh one.
+     *
+     * @param namespace namespace taken by {@link #acquire()}
+     */
+    void release(Namespace namespace) {
+        resourceManager.getExecutor().execute(() -> {
+            deleteNamespace(namespace);
+            refill();
+        });
+    }
+
+    /**
+     * Returns number of namespaces ready to be handed out
+     *
+     * @return number of ready namespaces
+     */
+    int readyCount() {
+        return ready.size();
+    }
+
+    private void refill() {
+        while (!closed.get()) {
+            int inFlight = pending.get();
+            if (ready.size() + inFlight >= size.get()) {
+                return;
+            }
+            if (pending.compareAndSet(inFlight, inFlight + 1)) {
+                resourceManager.getExecutor().execute(() -> {
+                    try {
+                        ready.add(createNamespace());
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Cannot pre-create namespace for pool '{}': {}", prefix, e.getMessage());
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                    if (closed.get()) {
+                        drain();
+                    }
+                });
+            }
+        }
+    }
+
+    private Namespace createNamespace() {
+        Namespace namespace = new NamespaceBuilder()
+            .withNewMetadata()
+            .withName(nameGenerator.get())
+            .withLabels(labels)
+            .withAnnotations(annotations)
+            .endMetadata()
+            .build();
+        LoggerUtils.logResource("Creating pooled", Level.DEBUG, namespace);
+        Namespace created = resourceManager.kubeClient().getClient().resource(namespace).create();
+        resourceManager.journalCreated(namespace);
+        return created == null ? namespace : created;
+    }
+
+    private void deleteNamespace(Namespace namespace) {
+        try {
+            LoggerUtils.logResource("Deleting pooled", Level.DEBUG, namespace);
+            resourceManager.kubeClient().getClient().resource(namespace).withTimeoutInMillis(0).delete();
+            resourceManager.journalDeleted(namespace);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot delete pooled namespace {}: {}", namespace.getMetadata().getName(), e.getMessage());
+        }
+    }
+
+    private void drain() {
+        Namespace namespace;
+        while ((namespace = ready.poll()) != null) {
+            deleteNamespace(namespace);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            LOGGER.info("Closing namespace pool '{}' with {} ready namespace(s)", prefix, ready.size());
+            drain();
+        }
+    }
+}
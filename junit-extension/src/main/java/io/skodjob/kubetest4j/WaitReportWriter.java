@@ -0,0 +1,57 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the report of the slowest waits recorded by {@link WaitTelemetry} once the test run finishes.
+ * <p>
+ * The writer is stored in the root context, JUnit closes it after the last test class, see
+ * {@link ContextStoreHelper#getOrCreateWaitReport}.
+ */
+class WaitReportWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitReportWriter.class);
+
+    /**
+     * Number of the slowest waits listed per kind and of the listed tests
+     */
+    static final int REPORT_LIMIT = 10;
+
+    private final Path path;
+
+    /**
+     * Creates the writer
+     *
+     * @param path file the report is written to
+     */
+    WaitReportWriter(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void close() {
+        if (WaitTelemetry.waitCount() == 0) {
+            return;
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, WaitTelemetry.report(REPORT_LIMIT), StandardCharsets.UTF_8);
+            LOGGER.info("Wait report written to {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write wait report to {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -14,6 +14,13 @@ public enum CleanupStrategy {
      */
     AUTOMATIC,
 
+    /**
+     * Clean up resources like {@link #AUTOMATIC}, but delete resources of a finished test method in the background.
+     * The next test starts right away, creation of a resource with the same name waits for its deletion,
+     * and all deferred deletions are awaited after all tests complete.
+     */
+    DEFERRED,
+
     /**
      * Never clean up resources automatically.
      * Resources must be cleaned up manually or via direct KubeResourceManager calls.
@@ -28,6 +28,16 @@ import java.lang.annotation.Target;
  * can declare {@code @KubernetesTest} with shared configuration, and child classes will inherit it.
  * Child classes can override by re-declaring {@code @KubernetesTest} with different parameters.
  * <p>
+ * Resources are tracked per test by its JUnit unique ID, so test methods may run concurrently with
+ * {@code junit.jupiter.execution.parallel.enabled=true}. Use {@link MethodNamespace} for resources of
+ * concurrent test methods, a shared {@link ClassNamespace} needs unique resource names.
+ * <p>
+ * With {@code KUBE_SHARDING_STRATEGY=round_robin} or {@code least_loaded}, test classes are distributed across
+ * all configured cluster contexts. Each class gets its cluster through injected clients and resource managers,
+ * {@code KubeResourceManager.current()} and the bundled utilities such as {@code PodUtils} or {@code JobUtils}.
+ * {@code KubeResourceManager.get()} always returns the manager of the default context, tests which should follow
+ * the shard of their class have to use {@code current()} instead.
+ * <p>
  * Usage:
  * <pre>
  * &#64;KubernetesTest(resourceTypes = {NamespaceType.class, DeploymentType.class})
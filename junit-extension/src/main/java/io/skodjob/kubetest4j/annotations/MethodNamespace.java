@@ -52,6 +52,11 @@ import java.lang.annotation.Target;
  * <p>
  * Thread safety: Each test method execution gets its own unique namespace, making this
  * safe for parallel test execution.
+ * <p>
+ * With {@link #poolSize()} greater than zero, namespaces are taken from a pool pre-created in the
+ * background and named {@code <prefix>-pool-<random>}. A used namespace is never handed out again,
+ * it is deleted in the background after the test and replaced by a fresh one, so the test does not
+ * wait for namespace creation nor for namespace finalization.
  */
 @Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
@@ -88,4 +93,14 @@ public @interface MethodNamespace {
      * @return array of annotation key=value pairs
      */
     String[] annotations() default {};
-}
\ No newline at end of file
+
+    /**
+     * Number of namespaces pre-created in the background and kept ready for test methods.
+     * The pool is shared by all tests with the same prefix, kubeContext, labels and annotations
+     * and its remaining namespaces are deleted at the end of the test run.
+     * Default {@code 0} disables pooling and the namespace is created in {@code beforeEach}.
+     *
+     * @return size of the namespace pool
+     */
+    int poolSize() default 0;
+}
@@ -24,6 +24,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -31,10 +33,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -243,6 +247,36 @@ class ClassNamespaceServiceTest {
             assertEquals("testNs", entries.get(0).fieldName());
         }
 
+        @Test
+        @DisplayName("Multiple namespaces are created concurrently and injected once ready")
+        @SuppressWarnings("unchecked")
+        void shouldCreateNamespacesConcurrently() {
+            when(extensionContext.getRequiredTestClass())
+                .thenReturn((Class) MultiFieldTestClass.class);
+            when(contextStoreHelper.getResourceManager(extensionContext))
+                .thenReturn(resourceManager);
+            when(namespaceResource.get()).thenReturn(null);
+
+            // Each creation waits for the other one, serial creation would time out
+            CountDownLatch bothCreating = new CountDownLatch(2);
+            doAnswer(invocation -> {
+                bothCreating.countDown();
+                assertTrue(bothCreating.await(10, TimeUnit.SECONDS), "Namespaces should be created concurrently");
+                return null;
+            }).when(resourceManager).createResourceWithWait(any(Namespace.class));
+
+            service.createClassNamespaces(extensionContext);
+
+            verify(resourceManager, times(2)).createResourceWithWait(any(Namespace.class));
+            assertEquals("ns-one", MultiFieldTestClass.nsOne.getMetadata().getName());
+            assertEquals("ns-two", MultiFieldTestClass.nsTwo.getMetadata().getName());
+
+            ArgumentCaptor<List<ClassNamespaceService.ClassNamespaceEntry>> captor =
+                ArgumentCaptor.forClass(List.class);
+            verify(contextStoreHelper).putClassNamespaceEntries(any(), captor.capture());
+            assertEquals(2, captor.getValue().size());
+        }
+
         @Test
         @DisplayName("Labels and annotations from annotation are applied")
         @SuppressWarnings("unchecked")
@@ -0,0 +1,66 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.enums.ShardingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ClusterShardingService.
+ */
+class ClusterShardingServiceTest {
+
+    private static final Set<String> CONTEXTS = Set.of("c", KubeTestConstants.DEFAULT_CONTEXT_NAME, "b");
+
+    @Test
+    @DisplayName("Sharding is disabled with NONE strategy or a single context")
+    void shouldBeDisabledWithoutStrategyOrClusters() {
+        assertFalse(new ClusterShardingService(ShardingStrategy.NONE, CONTEXTS).isEnabled());
+        assertFalse(new ClusterShardingService(ShardingStrategy.ROUND_ROBIN,
+            Set.of(KubeTestConstants.DEFAULT_CONTEXT_NAME)).isEnabled());
+        assertTrue(new ClusterShardingService(ShardingStrategy.ROUND_ROBIN, CONTEXTS).isEnabled());
+    }
+
+    @Test
+    @DisplayName("Round-robin assigns contexts in order starting with the default context")
+    void shouldAssignRoundRobin() {
+        ClusterShardingService sharding = new ClusterShardingService(ShardingStrategy.ROUND_ROBIN, CONTEXTS);
+
+        List<String> assigned = List.of(sharding.acquire(), sharding.acquire(), sharding.acquire(),
+            sharding.acquire());
+
+        assertEquals(List.of(KubeTestConstants.DEFAULT_CONTEXT_NAME, "b", "c", KubeTestConstants.DEFAULT_CONTEXT_NAME),
+            assigned);
+        assertEquals(2, sharding.activeClasses(KubeTestConstants.DEFAULT_CONTEXT_NAME));
+    }
+
+    @Test
+    @DisplayName("Least-loaded assigns the context with the fewest running classes")
+    void shouldAssignLeastLoaded() {
+        ClusterShardingService sharding = new ClusterShardingService(ShardingStrategy.LEAST_LOADED, CONTEXTS);
+
+        String first = sharding.acquire();
+        String second = sharding.acquire();
+        String third = sharding.acquire();
+        assertEquals(CONTEXTS, Set.of(first, second, third));
+
+        // the second cluster finished its class first, so it gets the next one
+        sharding.release(second);
+        assertEquals(second, sharding.acquire());
+
+        sharding.release(first);
+        sharding.release(third);
+        assertEquals(1, sharding.activeClasses(second));
+        assertEquals(0, sharding.activeClasses(first));
+    }
+}
@@ -22,13 +22,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -351,6 +354,28 @@ class ContextStoreHelperTest {
         }
     }
 
+    @Nested
+    @DisplayName("Deferred Teardown Store Operations Tests")
+    class DeferredTeardownStoreOperationsTests {
+
+        @Test
+        @DisplayName("Should key deferred teardowns by unique id of the class context")
+        @SuppressWarnings("unchecked")
+        void shouldKeyDeferredTeardownsByUniqueIdOfClassContext() {
+            // Given
+            List<CompletableFuture<Void>> teardowns = new CopyOnWriteArrayList<>();
+            when(extensionContext.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:MyTest]");
+            when(store.computeIfAbsent(eq("kubernetes.test.deferredTeardowns.[engine:junit-jupiter]/[class:MyTest]"),
+                any(Function.class), eq(List.class))).thenReturn(teardowns);
+
+            // When
+            List<CompletableFuture<Void>> result = storeHelper.getOrCreateDeferredTeardowns(extensionContext);
+
+            // Then
+            assertSame(teardowns, result);
+        }
+    }
+
     @Nested
     @DisplayName("Resource Types Store Operations Tests")
     class ResourceTypesStoreOperationsTests {
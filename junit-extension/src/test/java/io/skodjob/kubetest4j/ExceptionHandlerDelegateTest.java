@@ -255,6 +255,23 @@ class ExceptionHandlerDelegateTest {
             verify(cleanupCallback).handleAutomaticCleanup(extensionContext, testConfig);
         }
 
+        @Test
+        @DisplayName("Should trigger cleanup when strategy is DEFERRED")
+        void shouldTriggerCleanupWhenStrategyIsDeferred() {
+            // Given
+            RuntimeException testException = new RuntimeException("Test failed");
+            TestConfig testConfig = createTestConfig(LogCollectionStrategy.ON_FAILURE,
+                CleanupStrategy.DEFERRED, false);
+            when(configurationService.getTestConfig(extensionContext)).thenReturn(testConfig);
+
+            // When
+            assertThrows(RuntimeException.class, () ->
+                delegate.handleTestExecutionException(extensionContext, testException));
+
+            // Then
+            verify(cleanupCallback).handleAutomaticCleanup(extensionContext, testConfig);
+        }
+
         @Test
         @DisplayName("Should not trigger cleanup when strategy is MANUAL")
         void shouldNotTriggerCleanupWhenStrategyIsManual() {
@@ -13,12 +13,14 @@ import io.skodjob.kubetest4j.annotations.ClassNamespace;
 import io.skodjob.kubetest4j.annotations.MethodNamespace;
 import io.skodjob.kubetest4j.clients.KubeClient;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
+import io.skodjob.kubetest4j.resources.ResourceItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -126,6 +129,11 @@ class MethodNamespaceServiceTest {
         Namespace workerNs;
     }
 
+    static class PooledTestClass {
+        @MethodNamespace(prefix = "pooled", poolSize = 2)
+        Namespace pooledNs;
+    }
+
     static class StaticFieldClass {
         @MethodNamespace(prefix = "bad")
         static Namespace staticNs;
@@ -243,6 +251,27 @@ class MethodNamespaceServiceTest {
 
             assertTrue(name.endsWith("-5"), "Name must end with index 5: " + name);
         }
+
+        @Test
+        @DisplayName("Pooled namespace name is unique and DNS-1123 compliant")
+        void poolNamespaceName() {
+            String name = MethodNamespaceService.generatePoolNamespaceName("My_Pool");
+
+            assertTrue(name.startsWith("my-pool-pool-"), "Name must start with prefix: " + name);
+            assertTrue(name.matches("[a-z0-9]([a-z0-9-]*[a-z0-9])?"),
+                "Name must be DNS-1123 compliant: " + name);
+            assertNotEquals(MethodNamespaceService.generatePoolNamespaceName("My_Pool"), name,
+                "Pooled names must be unique: " + name);
+        }
+
+        @Test
+        @DisplayName("Pooled namespace name with long prefix is truncated")
+        void poolNamespaceNameTruncated() {
+            String name = MethodNamespaceService.generatePoolNamespaceName("a".repeat(70));
+
+            assertTrue(name.length() <= 63, "Name length " + name.length() + " exceeds 63: " + name);
+            assertTrue(name.contains("-pool-"), "Name must contain pool marker: " + name);
+        }
     }
 
     @Nested
@@ -356,6 +385,45 @@ class MethodNamespaceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Namespace pool Tests")
+    class NamespacePoolTests {
+
+        @Mock
+        private NamespacePool pool;
+
+        @Test
+        @DisplayName("Field with poolSize takes namespace from the pool and releases it on teardown")
+        void fieldAcquiresFromPool() throws Exception {
+            when(extensionContext.getRequiredTestClass())
+                .thenReturn((Class) PooledTestClass.class);
+            when(extensionContext.getTestMethod()).thenReturn(Optional.of(getMethod("simpleMethod")));
+            when(extensionContext.getDisplayName()).thenReturn("simpleMethod()");
+            when(contextStoreHelper.getResourceManager(extensionContext))
+                .thenReturn(resourceManager);
+            when(resourceManager.getContextId()).thenReturn("primary");
+            when(contextStoreHelper.getOrCreateNamespacePool(any(), any(), any())).thenReturn(pool);
+            Namespace pooledNs = new NamespaceBuilder()
+                .withNewMetadata().withName("pooled-pool-abcdef12").endMetadata().build();
+            when(pool.acquire()).thenReturn(pooledNs);
+
+            service.createMethodNamespaces(extensionContext);
+
+            verify(pool).ensureSize(2);
+            // pools of different clusters must not be shared, the key holds the resolved context
+            ArgumentCaptor<String> poolKey = ArgumentCaptor.forClass(String.class);
+            verify(contextStoreHelper).getOrCreateNamespacePool(any(), poolKey.capture(), any());
+            assertTrue(poolKey.getValue().startsWith("primary|"), poolKey.getValue());
+            verify(resourceManager, never()).createResourceWithWait(any(Namespace.class));
+            ArgumentCaptor<ResourceItem> item = ArgumentCaptor.forClass(ResourceItem.class);
+            verify(resourceManager).pushToStack(item.capture());
+            assertEquals(pooledNs, item.getValue().resource());
+
+            item.getValue().throwableRunner().run();
+            verify(pool).release(pooledNs);
+        }
+    }
+
     @Nested
     @DisplayName("resolveMethodNamespace Tests")
     class ResolveMethodNamespaceTests {
@@ -0,0 +1,37 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.wait.Wait;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link WaitReportWriter}.
+ */
+class WaitReportWriterTest {
+
+    @Test
+    @DisplayName("Should write report of recorded waits on close")
+    void shouldWriteReportOnClose(@TempDir Path tempDir) throws IOException {
+        Path report = tempDir.resolve("reports").resolve("wait-report.txt");
+        WaitTelemetry.withKind("ConfigMap", () -> Wait.until("report writer wait", 10, 1_000, () -> true));
+
+        new WaitReportWriter(report).close();
+
+        assertTrue(Files.exists(report));
+        String content = Files.readString(report);
+        assertTrue(content.contains("ConfigMap"), content);
+        assertTrue(content.contains("report writer wait"), content);
+    }
+}
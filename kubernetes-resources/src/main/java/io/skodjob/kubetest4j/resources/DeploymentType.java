@@ -113,6 +113,18 @@ public class DeploymentType implements ResourceType<Deployment> {
         return client.resource(resource).isReady();
     }
 
+    /**
+     * Checks readiness of the given state of {@link Deployment} without fetching it again
+     *
+     * @param resource current state of the resource
+     * @return result of the readiness check
+     */
+    @Override
+    public boolean isReadyState(Deployment resource) {
+        return resource != null && KubeResourceManager.current().kubeClient().getClient().getConfiguration()
+            .getReadiness().isReady(resource);
+    }
+
     /**
      * Waits for {@link Deployment} to be deleted
      *
@@ -102,6 +102,18 @@ public class JobType implements ResourceType<Job> {
         return client.resource(resource).isReady();
     }
 
+    /**
+     * Checks readiness of the given state of {@link Job} without fetching it again
+     *
+     * @param resource current state of the resource
+     * @return result of the readiness check
+     */
+    @Override
+    public boolean isReadyState(Job resource) {
+        return resource != null && KubeResourceManager.current().kubeClient().getClient().getConfiguration()
+            .getReadiness().isReady(resource);
+    }
+
     /**
      * Waits for {@link Job} to be deleted
      *
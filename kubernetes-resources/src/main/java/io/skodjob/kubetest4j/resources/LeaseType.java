@@ -102,6 +102,18 @@ public class LeaseType implements ResourceType<Lease> {
         return client.resource(resource).isReady();
     }
 
+    /**
+     * Checks readiness of the given state of {@link Lease} without fetching it again
+     *
+     * @param resource current state of the resource
+     * @return result of the readiness check
+     */
+    @Override
+    public boolean isReadyState(Lease resource) {
+        return resource != null && KubeResourceManager.current().kubeClient().getClient().getConfiguration()
+            .getReadiness().isReady(resource);
+    }
+
     /**
      * Waits for {@link Lease} to be deleted
      *
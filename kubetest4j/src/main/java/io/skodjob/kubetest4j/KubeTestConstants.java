@@ -4,6 +4,8 @@
  */
 package io.skodjob.kubetest4j;
 
+import io.skodjob.kubetest4j.wait.PollStrategy;
+
 import java.time.Duration;
 
 /**
@@ -35,6 +37,40 @@ public final class KubeTestConstants {
      */
     public static final long GLOBAL_POLL_INTERVAL_1_SEC = Duration.ofSeconds(1).toMillis();
 
+    /**
+     * Poll strategy with the long global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_LONG = PollStrategy.fixed(GLOBAL_POLL_INTERVAL_LONG);
+
+    /**
+     * Poll strategy with the medium global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_MEDIUM = PollStrategy.fixed(GLOBAL_POLL_INTERVAL_MEDIUM);
+
+    /**
+     * Poll strategy with the short global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_SHORT = PollStrategy.fixed(GLOBAL_POLL_INTERVAL_SHORT);
+
+    /**
+     * Poll strategy with the 1 second global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_1_SEC = PollStrategy.fixed(GLOBAL_POLL_INTERVAL_1_SEC);
+
+    /**
+     * Poll strategy for resource readiness, probes within the first second and then backs off
+     * to the medium global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_FOR_RESOURCE_READINESS =
+        PollStrategy.fastStart(GLOBAL_POLL_INTERVAL_MEDIUM);
+
+    /**
+     * Poll strategy for resource deletion, probes within the first second and then backs off
+     * to the short global poll interval.
+     */
+    public static final PollStrategy POLL_STRATEGY_FOR_RESOURCE_DELETION =
+        PollStrategy.fastStart(GLOBAL_POLL_INTERVAL_SHORT);
+
     /**
      * Global timeout in milliseconds (medium).
      */
@@ -56,6 +92,16 @@ public final class KubeTestConstants {
      */
     public static final long GLOBAL_STABILITY_TIME = Duration.ofMinutes(1).toMillis();
 
+    /**
+     * How long a Pod with FailedScheduling events may stay unscheduled before fail-fast waits abort
+     */
+    public static final long FAILED_SCHEDULING_GRACE = Duration.ofMinutes(1).toMillis();
+
+    /**
+     * How long a shared informer of watch based waits keeps running after its last waiter finished
+     */
+    public static final long INFORMER_IDLE_TIMEOUT = Duration.ofSeconds(30).toMillis();
+
     /**
      * CA validity delay
      */
@@ -85,4 +131,39 @@ public final class KubeTestConstants {
      * Default maximum number of concurrent async operations (create/delete) against the Kubernetes API.
      */
     public static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 50;
+
+    /**
+     * Default latency target of API calls, faster calls let the adaptive operation limit grow
+     */
+    public static final long DEFAULT_OPERATION_LATENCY_TARGET = Duration.ofSeconds(1).toMillis();
+
+    /**
+     * Default maximum number of concurrent probes done by readiness and deletion waits.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_PROBES = 500;
+
+    /**
+     * Interval of batched writes of the resource journal in milliseconds
+     */
+    public static final long JOURNAL_FLUSH_INTERVAL = Duration.ofMillis(200).toMillis();
+
+    /**
+     * Field manager used for server-side apply
+     */
+    public static final String FIELD_MANAGER = "kubetest4j";
+
+    /**
+     * Prefix of labels set by kubetest4j on managed resources
+     */
+    public static final String LABEL_PREFIX = "kubetest4j.skodjob.io/";
+
+    /**
+     * Label with the ID of the test run, set on managed resources when bulk teardown is enabled
+     */
+    public static final String RUN_ID_LABEL = LABEL_PREFIX + "run-id";
+
+    /**
+     * Label with the ID of the test, set on managed resources when bulk teardown is enabled
+     */
+    public static final String TEST_ID_LABEL = LABEL_PREFIX + "test-id";
 }
@@ -4,8 +4,13 @@
  */
 package io.skodjob.kubetest4j;
 
+import io.skodjob.kubetest4j.enums.ShardingStrategy;
 import io.skodjob.kubetest4j.environment.TestEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -13,10 +18,13 @@ import java.util.Map;
  */
 public final class KubeTestEnv {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(KubeTestEnv.class);
     private static final TestEnvironmentVariables ENV_VARIABLES = new TestEnvironmentVariables();
 
     private static final String CLIENT_TYPE_ENV = "CLIENT_TYPE";
     private static final String IP_FAMILY_ENV = "IP_FAMILY";
+    private static final String SHARDING_STRATEGY_ENV = "KUBE_SHARDING_STRATEGY";
+    private static final String WAIT_REPORT_PATH_ENV = "KUBE_WAIT_REPORT_PATH";
 
     /**
      * Represents the default IP family, which is IPv4.
@@ -61,10 +69,48 @@ public final class KubeTestEnv {
      */
     public static final String IP_FAMILY = ENV_VARIABLES.getOrDefault(IP_FAMILY_ENV, IP_FAMILY_DEFAULT);
 
+    /**
+     * Strategy distributing test classes of the junit extension across all contexts from {@link #CLUSTER_CONFIGS}.
+     * One of {@code none}, {@code round_robin} or {@code least_loaded}, the default is {@code none}.
+     * An unknown value is reported in the log and test classes are not sharded.
+     */
+    public static final ShardingStrategy SHARDING_STRATEGY = ENV_VARIABLES.getOrDefault(SHARDING_STRATEGY_ENV,
+        KubeTestEnv::parseShardingStrategy, ShardingStrategy.NONE);
+
+    /**
+     * Path of the report of the slowest waits written by the junit extension at the end of the test run,
+     * see {@link io.skodjob.kubetest4j.wait.WaitTelemetry}. The default is {@code target/wait-report.txt},
+     * an empty value disables the report.
+     */
+    public static final String WAIT_REPORT_PATH =
+        ENV_VARIABLES.getOrDefault(WAIT_REPORT_PATH_ENV, "target/wait-report.txt");
+
     private KubeTestEnv() {
         // Private constructor to prevent instantiation
     }
 
+    /**
+     * Parses the sharding strategy, ignoring case and surrounding whitespace and accepting dashes
+     * instead of underscores. Unknown values fall back to {@link ShardingStrategy#NONE}, so a typo does not
+     * break loading of this class and with it every test.
+     *
+     * @param value value of the environment variable
+     * @return parsed strategy
+     */
+    static ShardingStrategy parseShardingStrategy(String value) {
+        String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return ShardingStrategy.NONE;
+        }
+        try {
+            return ShardingStrategy.valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown {} '{}', expected one of {}, test classes are not sharded", SHARDING_STRATEGY_ENV,
+                value, Arrays.stream(ShardingStrategy.values()).map(s -> s.name().toLowerCase(Locale.ROOT)).toList());
+            return ShardingStrategy.NONE;
+        }
+    }
+
     static {
         ENV_VARIABLES.logEnvironmentVariables();
     }
@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.openshift.client.OpenShiftClient;
+import io.skodjob.kubetest4j.KubeTestConstants;
 import io.skodjob.kubetest4j.KubeTestEnv;
 import io.skodjob.kubetest4j.executor.Exec;
 import io.skodjob.kubetest4j.utils.LoggerUtils;
@@ -287,6 +288,63 @@ public class KubeClient {
         });
     }
 
+    /**
+     * Create or update resources from file by server-side apply and apply modifier.
+     * Each resource is applied by a single API call with the {@link KubeTestConstants#FIELD_MANAGER} field manager.
+     *
+     * @param resources resources
+     * @param modifier  modifier method
+     * @param force     take over fields owned by other field managers
+     */
+    public void serverSideApply(List<HasMetadata> resources, UnaryOperator<HasMetadata> modifier, boolean force) {
+        serverSideApply(null, resources, modifier, force);
+    }
+
+    /**
+     * Create or update resources from file by server-side apply and apply modifier.
+     * Each resource is applied by a single API call with the {@link KubeTestConstants#FIELD_MANAGER} field manager.
+     *
+     * @param ns        namespace
+     * @param resources resources
+     * @param modifier  modifier method
+     * @param force     take over fields owned by other field managers
+     */
+    public void serverSideApply(String ns, List<HasMetadata> resources, UnaryOperator<HasMetadata> modifier,
+                                boolean force) {
+        resources.forEach(i -> {
+            HasMetadata h = modifier.apply(i);
+            if (h != null) {
+                LOGGER.debug(LoggerUtils.RESOURCE_WITH_NAMESPACE_LOGGER_PATTERN,
+                    "Applying", h.getKind(), h.getMetadata().getName(),
+                    ns == null ? h.getMetadata().getNamespace() : ns);
+                serverSideApply(ns, h, force);
+            }
+        });
+    }
+
+    /**
+     * Creates or updates a single resource by server-side apply
+     *
+     * @param ns       namespace, null for namespace of the resource
+     * @param resource resource
+     * @param force    take over fields owned by other field managers
+     * @param <T>      type of the resource
+     * @return applied resource
+     */
+    public <T extends HasMetadata> T serverSideApply(String ns, T resource, boolean force) {
+        if (ns == null) {
+            return force
+                ? client.resource(resource).fieldManager(KubeTestConstants.FIELD_MANAGER).forceConflicts()
+                    .serverSideApply()
+                : client.resource(resource).fieldManager(KubeTestConstants.FIELD_MANAGER).serverSideApply();
+        }
+        return force
+            ? client.resource(resource).inNamespace(ns).fieldManager(KubeTestConstants.FIELD_MANAGER).forceConflicts()
+                .serverSideApply()
+            : client.resource(resource).inNamespace(ns).fieldManager(KubeTestConstants.FIELD_MANAGER)
+                .serverSideApply();
+    }
+
     /**
      * Deletes resources
      *
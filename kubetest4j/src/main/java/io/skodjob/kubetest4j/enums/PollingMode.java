@@ -0,0 +1,19 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.enums;
+
+/**
+ * Enum class capturing the ways how resource conditions are polled when they are not evaluated on watch events.
+ */
+public enum PollingMode {
+    /**
+     * Every waiter gets its resource by a separate GET on every poll
+     */
+    PER_RESOURCE,
+    /**
+     * Waiters of the same kind and namespace share one LIST per poll, which is evaluated against all of them
+     */
+    BATCHED_LIST
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.enums;
+
+/**
+ * Enum class capturing the ways how test classes are distributed across the discovered cluster contexts.
+ */
+public enum ShardingStrategy {
+    /**
+     * All test classes run against the default context
+     */
+    NONE,
+    /**
+     * Test classes are assigned to the contexts one after another in the order they start
+     */
+    ROUND_ROBIN,
+    /**
+     * Every test class is assigned to the context running the fewest test classes at the moment
+     */
+    LEAST_LOADED
+}
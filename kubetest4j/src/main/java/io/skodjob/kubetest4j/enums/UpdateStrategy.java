@@ -0,0 +1,32 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.enums;
+
+/**
+ * Enum class capturing the ways how existing resources are updated by create-or-update operations.
+ */
+public enum UpdateStrategy {
+    /**
+     * Gets the resource and then updates it if it exists or creates it otherwise (two API calls per resource)
+     */
+    GET_AND_UPDATE,
+    /**
+     * Applies the resource by server-side apply, a single API call which creates or updates the resource
+     */
+    SERVER_SIDE_APPLY,
+    /**
+     * Applies the resource by server-side apply and takes over fields owned by other field managers
+     */
+    SERVER_SIDE_APPLY_FORCE;
+
+    /**
+     * Returns whether the strategy uses server-side apply
+     *
+     * @return true for server-side apply strategies
+     */
+    public boolean isServerSideApply() {
+        return this != GET_AND_UPDATE;
+    }
+}
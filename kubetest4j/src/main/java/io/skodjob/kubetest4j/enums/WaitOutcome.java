@@ -0,0 +1,27 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.enums;
+
+/**
+ * Enum class capturing how a wait recorded by {@link io.skodjob.kubetest4j.wait.WaitTelemetry} ended.
+ */
+public enum WaitOutcome {
+    /**
+     * The waited condition was fulfilled
+     */
+    SUCCESS,
+    /**
+     * The timeout was reached before the condition was fulfilled
+     */
+    TIMEOUT,
+    /**
+     * The wait was aborted because the condition can never be fulfilled
+     */
+    ABORTED,
+    /**
+     * The wait failed with an exception, was interrupted or cancelled
+     */
+    FAILED
+}
@@ -37,6 +37,8 @@ public class TestEnvironmentVariables {
     private Map<String, Object> yamlData = new HashMap<>();
     private final String configFilePath;
     private static final String CONFIG_FILE_PATH_ENV = "ENV_FILE";
+    private static final String MAX_CONCURRENT_OPERATIONS_ENV = "KUBE_MAX_CONCURRENT_OPERATIONS";
+    private static final String MAX_CONCURRENT_PROBES_ENV = "KUBE_MAX_CONCURRENT_PROBES";
 
     /**
      * {@link TestEnvironmentVariables} object initialization, where the config file is loaded to {@link #yamlData}
@@ -159,11 +161,43 @@ public class TestEnvironmentVariables {
     /**
      * Container for kubernetes connection
      *
-     * @param url            api url
-     * @param token          api token
-     * @param kubeconfigPath kubeconfig
+     * @param url                     api url
+     * @param token                   api token
+     * @param kubeconfigPath          kubeconfig
+     * @param maxConcurrentOperations maximum number of concurrent operations against the cluster,
+     *                                null for the default
+     * @param maxConcurrentProbes     maximum number of concurrent wait probes against the cluster,
+     *                                null for the default
      */
-    public record ClusterConfig(String url, String token, String kubeconfigPath) {
+    public record ClusterConfig(String url, String token, String kubeconfigPath,
+                                Integer maxConcurrentOperations, Integer maxConcurrentProbes) {
+
+        /**
+         * Validates the concurrency limits
+         *
+         * @throws IllegalArgumentException when a set limit is not positive
+         */
+        public ClusterConfig {
+            if (maxConcurrentOperations != null && maxConcurrentOperations <= 0) {
+                throw new IllegalArgumentException(
+                    "maxConcurrentOperations must be positive, got: " + maxConcurrentOperations);
+            }
+            if (maxConcurrentProbes != null && maxConcurrentProbes <= 0) {
+                throw new IllegalArgumentException(
+                    "maxConcurrentProbes must be positive, got: " + maxConcurrentProbes);
+            }
+        }
+
+        /**
+         * Container for kubernetes connection with default concurrency limits
+         *
+         * @param url            api url
+         * @param token          api token
+         * @param kubeconfigPath kubeconfig
+         */
+        public ClusterConfig(String url, String token, String kubeconfigPath) {
+            this(url, token, kubeconfigPath, null, null);
+        }
     }
 
     /**
@@ -178,16 +212,18 @@ public class TestEnvironmentVariables {
         String defKC = getOrDefault("KUBECONFIG", null);
         String defURL = getOrDefault("KUBE_URL", null);
         String defTok = getOrDefault("KUBE_TOKEN", null);
+        Integer defOps = getConcurrencyLimit(MAX_CONCURRENT_OPERATIONS_ENV);
+        Integer defProbes = getConcurrencyLimit(MAX_CONCURRENT_PROBES_ENV);
 
         if (defKC != null) {
             out.put(KubeTestConstants.DEFAULT_CONTEXT_NAME,
-                new ClusterConfig(null, null, defKC));
+                new ClusterConfig(null, null, defKC, defOps, defProbes));
         } else if (defURL != null && defTok != null) {
             out.put(KubeTestConstants.DEFAULT_CONTEXT_NAME,
-                new ClusterConfig(defURL, defTok, null));
+                new ClusterConfig(defURL, defTok, null, defOps, defProbes));
         } else {
             out.put(KubeTestConstants.DEFAULT_CONTEXT_NAME,
-                new ClusterConfig(null, null, null));
+                new ClusterConfig(null, null, null, defOps, defProbes));
         }
 
         /* ---------- suffixed contexts ---------- */
@@ -202,14 +238,39 @@ public class TestEnvironmentVariables {
                 String kc = getOrDefault("KUBECONFIG_" + id.toUpperCase(), null);
                 String url = getOrDefault("KUBE_URL_" + id.toUpperCase(), null);
                 String tok = getOrDefault("KUBE_TOKEN_" + id.toUpperCase(), null);
+                Integer ops = getConcurrencyLimit(MAX_CONCURRENT_OPERATIONS_ENV + "_" + id.toUpperCase());
+                Integer probes = getConcurrencyLimit(MAX_CONCURRENT_PROBES_ENV + "_" + id.toUpperCase());
 
                 if (kc != null) {
-                    out.put(id, new ClusterConfig(null, null, kc));
+                    out.put(id, new ClusterConfig(null, null, kc, ops, probes));
                 } else if (url != null && tok != null) {
-                    out.put(id, new ClusterConfig(url, tok, null));
+                    out.put(id, new ClusterConfig(url, tok, null, ops, probes));
                 }
             });
 
         return java.util.Collections.unmodifiableMap(out);
     }
+
+    /**
+     * Returns the concurrency limit set by the env variable
+     *
+     * @param envVarName environment variable name
+     * @return positive limit or null if the variable is not set
+     * @throws IllegalArgumentException when the value is not a positive integer
+     */
+    private Integer getConcurrencyLimit(String envVarName) {
+        return getOrDefault(envVarName, value -> {
+            int limit;
+            try {
+                limit = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    envVarName + " must be a positive integer, got: '" + value + "'", e);
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException(envVarName + " must be positive, got: " + limit);
+            }
+            return limit;
+        }, null);
+    }
 }
@@ -79,6 +79,18 @@ public interface ResourceType<T extends HasMetadata> {
      */
     boolean isReady(T resource);
 
+    /**
+     * Confirms that the given state of {@link T} is ready without reading the resource from the cluster again.
+     * Used by readiness waits evaluated on informer events. Defaults to {@link #isReady(HasMetadata)}, types whose
+     * readiness check fetches the resource should override it to check the passed object only.
+     *
+     * @param resource current state of the resource, {@code null} when the resource does not exist
+     * @return result of the readiness check
+     */
+    default boolean isReadyState(T resource) {
+        return resource != null && isReady(resource);
+    }
+
     /**
      * Confirms that {@link T} is deleted
      *
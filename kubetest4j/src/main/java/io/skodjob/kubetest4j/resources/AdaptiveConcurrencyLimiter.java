@@ -0,0 +1,277 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency limiter of calls against the Kubernetes API with additive increase / multiplicative decrease.
+ * <p>
+ * Every call which finishes faster than the latency target while at least half of the limit is in use grows
+ * the limit by {@code 1 / limit}, so the limit grows by one per fully used window and does not drift up while
+ * the calls would not need it. Calls failing on throttling (429), server errors (5xx) or timeouts cut the limit
+ * in half, at most once per congestion window: failures of calls started before the last cut do not cut it
+ * again. The limit always stays between one and the configured maximum. When adaptation is disabled the limiter
+ * works as a fixed limit equal to the maximum.
+ * <p>
+ * Unlike swapping semaphores, the limiter is a single instance, so changing the maximum never loses or leaks
+ * permits of calls which are already running.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private int maxLimit;
+    private double limit;
+    private long latencyTargetMs;
+    private boolean adaptive = true;
+    private int inFlight;
+    private int waiting;
+    // sequence number of the last started call and of the last call started before the limit was cut
+    private long started;
+    private long lastDecrease;
+
+    /**
+     * Creates the limiter
+     *
+     * @param maxLimit        maximum number of concurrent calls, the limiter starts on this value
+     * @param latencyTargetMs calls faster than this target grow the limit
+     */
+    AdaptiveConcurrencyLimiter(int maxLimit, long latencyTargetMs) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("maxLimit must be positive, got: " + maxLimit);
+        }
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+        this.latencyTargetMs = latencyTargetMs;
+    }
+
+    /**
+     * Runs the call once a permit is available and adapts the limit based on its latency and outcome
+     *
+     * @param call call against the API
+     * @param <R>  result of the call
+     * @return result of the call
+     */
+    <R> R call(Supplier<R> call) {
+        long sequence = acquire();
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            overloaded = isOverload(e);
+            throw e;
+        } finally {
+            release(sequence, overloaded, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Runs the call once a permit is available and adapts the limit based on its latency and outcome
+     *
+     * @param call call against the API
+     */
+    void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for a permit
+     *
+     * @return sequence number of the call
+     */
+    private long acquire() {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (inFlight >= currentLimit()) {
+                    permitReleased.awaitUninterruptibly();
+                }
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            return ++started;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit and adapts the limit
+     *
+     * @param sequence   sequence number of the finished call
+     * @param overloaded whether the call failed on an overloaded API server
+     * @param latencyMs  latency of the call
+     */
+    private void release(long sequence, boolean overloaded, long latencyMs) {
+        lock.lock();
+        try {
+            int used = inFlight--;
+            if (adaptive) {
+                if (overloaded) {
+                    // calls started before the last cut saw the same congestion, they must not cut it again
+                    if (sequence > lastDecrease) {
+                        limit = Math.max(1, limit * DECREASE_FACTOR);
+                        lastDecrease = started;
+                    }
+                } else if (latencyMs <= latencyTargetMs && used * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets maximum number of concurrent calls, the current limit is reset to the maximum
+     *
+     * @param maxLimit maximum number of concurrent calls
+     */
+    void setMaxLimit(int maxLimit) {
+        lock.lock();
+        try {
+            this.maxLimit = maxLimit;
+            this.limit = maxLimit;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enables or disables adaptation of the limit, disabled limiter keeps the limit on its maximum
+     *
+     * @param adaptive true for adaptive limit
+     */
+    void setAdaptive(boolean adaptive) {
+        lock.lock();
+        try {
+            this.adaptive = adaptive;
+            this.limit = maxLimit;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets latency target, calls faster than this target grow the limit
+     *
+     * @param latencyTargetMs latency target in milliseconds
+     */
+    void setLatencyTarget(long latencyTargetMs) {
+        lock.lock();
+        try {
+            this.latencyTargetMs = latencyTargetMs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns maximum number of concurrent calls
+     *
+     * @return maximum limit
+     */
+    int maxLimit() {
+        lock.lock();
+        try {
+            return maxLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the limit adapts to latency and failures of calls
+     *
+     * @return true for adaptive limit
+     */
+    boolean isAdaptive() {
+        lock.lock();
+        try {
+            return adaptive;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns current limit of concurrent calls
+     *
+     * @return current limit
+     */
+    int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns number of calls waiting for a permit
+     *
+     * @return queue depth
+     */
+    int queueDepth() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns number of running calls
+     *
+     * @return calls in flight
+     */
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the failure signals an overloaded API server
+     *
+     * @param t failure of the call
+     * @return true for throttling, server errors and timeouts
+     */
+    static boolean isOverload(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof KubernetesClientException kce && (kce.getCode() == 429 || kce.getCode() >= 500)) {
+                return true;
+            }
+            if (cause instanceof TimeoutException || cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
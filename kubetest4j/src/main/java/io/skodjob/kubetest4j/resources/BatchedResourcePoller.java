@@ -0,0 +1,268 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Polls resource conditions by one LIST per (client, apiVersion, kind, namespace) and poll interval.
+ * <p>
+ * It is a fallback for clusters where watches are not reliable. A poller is running for as long as at least one
+ * waiter is registered on its key, every poll lists the namespace once and evaluates all registered waiters
+ * against the listed objects, so N waiters of the same kind cost one LIST per interval instead of N GETs.
+ */
+final class BatchedResourcePoller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchedResourcePoller.class);
+
+    private final Executor executor;
+    private final long pollIntervalMs;
+    private final UnaryOperator<Supplier<List<HasMetadata>>> listGuard;
+    private final Map<PollKey, PollEntry> pollers = new ConcurrentHashMap<>();
+    private final AtomicLong listCalls = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+
+    /**
+     * Identifies one poller
+     *
+     * @param client     client used for listing
+     * @param apiVersion api version of the polled kind
+     * @param kind       polled kind
+     * @param namespace  polled namespace, {@code null} for cluster scoped or client default namespace
+     */
+    private record PollKey(KubernetesClient client, String apiVersion, String kind, String namespace) {
+    }
+
+    /**
+     * Creates the poller
+     *
+     * @param executor       executor running the poll loops and predicate evaluation
+     * @param pollIntervalMs interval between two LIST calls of one key
+     * @param listGuard      wraps every LIST call, f.e. to hold a probe permit while listing
+     */
+    BatchedResourcePoller(Executor executor, long pollIntervalMs,
+                          UnaryOperator<Supplier<List<HasMetadata>>> listGuard) {
+        this.executor = executor;
+        this.pollIntervalMs = pollIntervalMs;
+        this.listGuard = listGuard;
+    }
+
+    /**
+     * Waits until the {@code predicate} is fulfilled for the current state of {@code resource}.
+     * The predicate is called with {@code null} when the resource does not exist.
+     *
+     * @param client    client used for listing
+     * @param resource  resource to wait for
+     * @param predicate condition which should be fulfilled
+     * @param timeoutMs timeout in milliseconds
+     * @param <T>       type of the resource
+     * @return {@code true} if the condition was fulfilled, {@code false} if the timeout was reached
+     * @throws KubernetesClientException when the first LIST of the key fails (f.e. missing list RBAC)
+     * @throws WaitAbortedException      when the predicate aborts the wait
+     */
+    <T extends HasMetadata> boolean await(KubernetesClient client, T resource, Predicate<T> predicate,
+                                          long timeoutMs) {
+        PollKey key = new PollKey(client, resource.getApiVersion(), resource.getKind(),
+            resource.getMetadata().getNamespace());
+        Waiter<T> waiter = new Waiter<>(resource.getMetadata().getName(), predicate);
+        PollEntry entry = acquire(key, resource, waiter);
+        try {
+            waiter.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof WaitAbortedException aborted) {
+                throw aborted;
+            }
+            throw new KubernetesClientException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            entry.waiters.remove(waiter);
+            release(key, entry);
+        }
+    }
+
+    /**
+     * Returns number of LIST calls done by all pollers
+     *
+     * @return number of LIST calls
+     */
+    long listCalls() {
+        return listCalls.get();
+    }
+
+    /**
+     * Returns number of GET calls which per resource polling would have done on top of the LIST calls
+     *
+     * @return number of saved API calls
+     */
+    long savedCalls() {
+        return Math.max(0, evaluations.get() - listCalls.get());
+    }
+
+    /**
+     * Returns number of currently running pollers
+     *
+     * @return number of pollers
+     */
+    int activePollers() {
+        return pollers.size();
+    }
+
+    private PollEntry acquire(PollKey key, HasMetadata resource, Waiter<?> waiter) {
+        return pollers.compute(key, (k, existing) -> {
+            boolean start = existing == null || existing.stopped;
+            PollEntry entry = start ? new PollEntry(k, resource) : existing;
+            entry.waiters.add(waiter);
+            entry.references++;
+            if (start) {
+                executor.execute(entry::run);
+            }
+            return entry;
+        });
+    }
+
+    private void release(PollKey key, PollEntry entry) {
+        pollers.computeIfPresent(key, (k, current) -> {
+            if (current != entry || --current.references > 0) {
+                return current;
+            }
+            LOGGER.debug("Stopping poller for {}/{} in namespace {}", k.apiVersion(), k.kind(), k.namespace());
+            current.stopped = true;
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MixedOperation<HasMetadata, ? extends KubernetesResourceList<HasMetadata>, ?> operation(
+        KubernetesClient client, PollKey key, HasMetadata resource) {
+        if (resource instanceof GenericKubernetesResource) {
+            return (MixedOperation<HasMetadata, ? extends KubernetesResourceList<HasMetadata>, ?>)
+                (MixedOperation<?, ?, ?>) client.genericKubernetesResources(key.apiVersion(), key.kind());
+        }
+        return client.resources((Class<HasMetadata>) resource.getClass());
+    }
+
+    /**
+     * Registered waiter
+     *
+     * @param <T> type of the resource
+     */
+    private static final class Waiter<T extends HasMetadata> {
+        private final String name;
+        private final Predicate<T> predicate;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Waiter(String name, Predicate<T> predicate) {
+            this.name = name;
+            this.predicate = predicate;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void test(HasMetadata current) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                if (predicate.test((T) current)) {
+                    result.complete(null);
+                }
+            } catch (WaitAbortedException e) {
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                // same as in Wait.until - an exception in the predicate means "not yet"
+                LOGGER.trace("Condition check for {} failed: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Poll loop of one key together with its waiters
+     */
+    private final class PollEntry {
+        private final PollKey key;
+        private final Supplier<List<HasMetadata>> list;
+        private final Set<Waiter<?>> waiters = ConcurrentHashMap.newKeySet();
+        // guarded by ConcurrentHashMap#compute in acquire/release
+        private int references;
+        private volatile boolean stopped;
+
+        private PollEntry(PollKey key, HasMetadata resource) {
+            LOGGER.debug("Starting poller for {}/{} in namespace {}", key.apiVersion(), key.kind(), key.namespace());
+            MixedOperation<HasMetadata, ? extends KubernetesResourceList<HasMetadata>, ?> operation =
+                operation(key.client(), key, resource);
+            this.key = key;
+            this.list = key.namespace() == null
+                ? () -> operation.list().getItems()
+                : () -> operation.inNamespace(key.namespace()).list().getItems();
+        }
+
+        private void run() {
+            boolean listed = false;
+            while (!stopped) {
+                try {
+                    poll();
+                    listed = true;
+                } catch (KubernetesClientException e) {
+                    if (!listed) {
+                        // the key cannot be listed at all, waiters fall back to per resource polling
+                        waiters.forEach(waiter -> waiter.result.completeExceptionally(e));
+                        stopped = true;
+                        pollers.remove(key, this);
+                        return;
+                    }
+                    LOGGER.debug("Listing {}/{} in namespace {} failed: {}",
+                        key.apiVersion(), key.kind(), key.namespace(), e.getMessage());
+                }
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void poll() {
+            if (waiters.isEmpty()) {
+                return;
+            }
+            Map<String, HasMetadata> byName = new HashMap<>();
+            listGuard.apply(list).get().forEach(obj -> byName.put(obj.getMetadata().getName(), obj));
+            listCalls.incrementAndGet();
+            for (Waiter<?> waiter : waiters) {
+                evaluations.incrementAndGet();
+                HasMetadata current = byName.get(waiter.name);
+                executor.execute(() -> waiter.test(current));
+            }
+        }
+    }
+}
@@ -5,14 +5,22 @@
 package io.skodjob.kubetest4j.resources;
 
 import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.ReplicationController;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.skodjob.kubetest4j.KubeTestConstants;
 import io.skodjob.kubetest4j.KubeTestEnv;
@@ -20,10 +28,17 @@ import io.skodjob.kubetest4j.clients.KubeClient;
 import io.skodjob.kubetest4j.clients.cmdClient.KubeCmdClient;
 import io.skodjob.kubetest4j.clients.cmdClient.Kubectl;
 import io.skodjob.kubetest4j.clients.cmdClient.Oc;
+import io.skodjob.kubetest4j.enums.PollingMode;
+import io.skodjob.kubetest4j.enums.UpdateStrategy;
+import io.skodjob.kubetest4j.enums.WaitOutcome;
 import io.skodjob.kubetest4j.environment.TestEnvironmentVariables;
 import io.skodjob.kubetest4j.interfaces.ResourceType;
+import io.skodjob.kubetest4j.interfaces.ThrowableRunner;
 import io.skodjob.kubetest4j.utils.LoggerUtils;
 import io.skodjob.kubetest4j.wait.Wait;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import io.skodjob.kubetest4j.wait.WaitException;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,25 +52,35 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -97,6 +122,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * defaultMgr.createResourceWithWait(myDeployment);
  * prodMgr.createResourceWithWait(prodDeployment);
  * </pre>
+ * <p>
+ * Every context has its own executor, operation limiter and probe pool, so a slow cluster does not take
+ * permits needed by the others. Limits are set per context by {@code KUBE_MAX_CONCURRENT_OPERATIONS_<CONTEXT>}
+ * and {@code KUBE_MAX_CONCURRENT_PROBES_<CONTEXT>} (no suffix for the default context).
+ * <p>
+ * The cluster context selected by {@link #useContext(String)} and the test context are bound to the calling
+ * thread. Every task submitted to the executor of a context captures both of them on submission and restores
+ * them in the worker thread, so resources created, waited for or deleted in parallel are stored for the right
+ * test. Tasks of own fan-outs can do the same by {@link #getExecutor()} or {@link #withCurrentContext(Runnable)}.
+ * <p>
+ * Resources are stored per test under {@link ExtensionContext#getUniqueId()}, not under the display name, so
+ * parameterized invocations, repeated tests and nested classes with the same display name never share a stack,
+ * and tests can run with {@code junit.jupiter.execution.parallel.enabled=true}.
  */
 public final class KubeResourceManager {
 
@@ -110,6 +148,17 @@ public final class KubeResourceManager {
 
     // Global configuration shared across all kube cluster contexts
     private static volatile String globalStoreYamlPath;
+    private static volatile boolean globalWatchBasedWaits = true;
+    private static volatile PollingMode globalPollingMode = PollingMode.PER_RESOURCE;
+    private static volatile boolean globalFailFastWaits = false;
+    private static volatile boolean globalNamespaceCollapsingTeardown = true;
+    private static volatile UpdateStrategy globalUpdateStrategy = UpdateStrategy.GET_AND_UPDATE;
+    private static volatile boolean globalCompactResourceReferences = false;
+    private static volatile ResourceJournal globalJournal;
+    // guarded by CREATION_LOCK
+    private static boolean journalShutdownHook;
+    private static volatile boolean globalBulkTeardown = false;
+    private static volatile String globalRunId = UUID.randomUUID().toString();
     private static final AtomicReference<ResourceType<?>[]> GLOBAL_RESOURCE_TYPES =
         new AtomicReference<>(new ResourceType<?>[]{});
     private static final List<Consumer<HasMetadata>> GLOBAL_CREATE_CALLBACKS = new CopyOnWriteArrayList<>();
@@ -118,23 +167,74 @@ public final class KubeResourceManager {
     // Instance-level variables (per kube cluster context)
     private final String contextId;
     private final Map<String, ClusterContext<? extends KubeCmdClient<?>>> clientCache = new ConcurrentHashMap<>();
+    private final ResourceInformerCache informerCache;
+    private final BatchedResourcePoller batchedPoller;
+    private final PodFailureWatcher failureWatcher;
+
+    // Virtual Thread executor for concurrency in Kubernetes resource operations of this context
+    private final ExecutorService virtualThreads;
+
+    // Executor propagating thread bound contexts of the submitting thread into virtual threads
+    private final Executor executor;
+
+    // Adaptive limiter of concurrent mutating operations (create/update/delete) against this context
+    private final AdaptiveConcurrencyLimiter operationLimiter;
+
+    // Configured maximum number of concurrent probes done by readiness and deletion waits against this context.
+    private final AtomicInteger maxConcurrentProbes;
+
+    // Semaphore for probes of passive waits, the permit is held only for a single probe, never for the whole wait
+    private final AtomicReference<Semaphore> probeSemaphore;
+
+    // Number of resources stored as compact resource references instead of the full objects
+    private final AtomicLong compactedResources = new AtomicLong();
+
+    // Deferred teardowns still running in the background, and the resources each of them deletes
+    private final Set<CompletableFuture<Void>> deferredTeardowns = ConcurrentHashMap.newKeySet();
+    private final Map<DeferredKey, CompletableFuture<Void>> deferredResources = new ConcurrentHashMap<>();
 
     // Static variables shared
     private static final ThreadLocal<String> CURRENT_CLUSTER_CONTEXT = ThreadLocal.withInitial(() ->
         KubeTestConstants.DEFAULT_CONTEXT_NAME);
     private static final ThreadLocal<ExtensionContext> TEST_CONTEXT = new ThreadLocal<>();
-    private static final Map<String, Map<String, Stack<ResourceItem<?>>>> STORED_RESOURCES = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, ResourceRegistry>> STORED_RESOURCES = new ConcurrentHashMap<>();
 
     // Lock used during store of resources that are being created by KubeResourceManager
     private static final Object CREATION_LOCK = new Object();
 
-    // Configured maximum number of concurrent async operations.
-    private static final AtomicInteger MAX_CONCURRENT_OPERATIONS =
-        new AtomicInteger(KubeTestConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS);
 
-    // Semaphore controlling the maximum number of concurrent async operations (create/delete)
-    private static final AtomicReference<Semaphore> OPERATION_SEMAPHORE =
-        new AtomicReference<>(new Semaphore(KubeTestConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS));
+    /**
+     * Contexts bound to a thread, captured when a task is submitted and restored in the thread running it
+     *
+     * @param clusterContext cluster context selected by {@link #useContext(String)}
+     * @param testContext    test extension context
+     */
+    private record ThreadContext(String clusterContext, ExtensionContext testContext) {
+        static ThreadContext capture() {
+            return new ThreadContext(CURRENT_CLUSTER_CONTEXT.get(), TEST_CONTEXT.get());
+        }
+
+        Runnable wrap(Runnable task) {
+            return () -> {
+                ThreadContext previous = capture();
+                bind(this);
+                try {
+                    task.run();
+                } finally {
+                    bind(previous);
+                }
+            };
+        }
+
+        private static void bind(ThreadContext context) {
+            CURRENT_CLUSTER_CONTEXT.set(context.clusterContext());
+            if (context.testContext() == null) {
+                TEST_CONTEXT.remove();
+            } else {
+                TEST_CONTEXT.set(context.testContext());
+            }
+        }
+    }
 
     /**
      * Stores connected kube clients for context
@@ -145,15 +245,47 @@ public final class KubeResourceManager {
     private record ClusterContext<K extends KubeCmdClient<K>>(KubeClient kubeClient, K cmdClient) {
     }
 
+    /**
+     * Runner of items pushed by {@link #pushToStack(HasMetadata)}, which does nothing but delete the resource.
+     * Teardown optimizations replacing the runner apply only to items with this runner.
+     *
+     * @param delete deletion of the resource
+     */
+    private record DefaultDelete(ThrowableRunner delete) implements ThrowableRunner {
+        @Override
+        public void run() throws Exception {
+            delete.run();
+        }
+
+        static boolean isDefault(ResourceItem<?> item) {
+            return item.resource() != null && item.throwableRunner() instanceof DefaultDelete;
+        }
+    }
+
     private KubeResourceManager(String contextId) {
         this.contextId = contextId;
+        TestEnvironmentVariables.ClusterConfig config = CLUSTER_CONFIGS.get(contextId);
+        int maxOperations = Optional.ofNullable(config)
+            .map(TestEnvironmentVariables.ClusterConfig::maxConcurrentOperations)
+            .orElse(KubeTestConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS);
+        int maxProbes = Optional.ofNullable(config)
+            .map(TestEnvironmentVariables.ClusterConfig::maxConcurrentProbes)
+            .orElse(KubeTestConstants.DEFAULT_MAX_CONCURRENT_PROBES);
+
+        this.virtualThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("kubetest4j-" + contextId + "-", 0).factory());
+        this.executor = task -> virtualThreads.execute(ThreadContext.capture().wrap(task));
+        this.informerCache = new ResourceInformerCache(executor, KubeTestConstants.GLOBAL_POLL_INTERVAL_MEDIUM,
+            KubeTestConstants.INFORMER_IDLE_TIMEOUT);
+        this.batchedPoller = new BatchedResourcePoller(executor, KubeTestConstants.GLOBAL_POLL_INTERVAL_MEDIUM,
+            list -> () -> withProbePermit(list));
+        this.failureWatcher = new PodFailureWatcher(KubeTestConstants.FAILED_SCHEDULING_GRACE);
+        this.operationLimiter = new AdaptiveConcurrencyLimiter(maxOperations,
+            KubeTestConstants.DEFAULT_OPERATION_LATENCY_TARGET);
+        this.maxConcurrentProbes = new AtomicInteger(maxProbes);
+        this.probeSemaphore = new AtomicReference<>(new Semaphore(maxProbes));
     }
 
-    /**
-     * Virtual Thread executor concurrency in Kubernetes resource operations.
-     */
-    private static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
-
     /**
      * Gets KubeResourceManager instance for the default context.
      * This method preserves backward compatibility.
@@ -181,6 +313,45 @@ public final class KubeResourceManager {
             KubeResourceManager::new);
     }
 
+    /**
+     * Gets KubeResourceManager instance for the cluster context selected on this thread by
+     * {@link #useContext(String)}, the default context if none is selected.
+     *
+     * @return instance for the active context of this thread
+     */
+    public static KubeResourceManager current() {
+        return getForContext(CURRENT_CLUSTER_CONTEXT.get());
+    }
+
+    /**
+     * Returns ID of the cluster context of this instance
+     *
+     * @return normalized context ID
+     */
+    public String getContextId() {
+        return contextId;
+    }
+
+    /**
+     * Returns executor of this context. Tasks run on virtual threads with the cluster and test context
+     * of the thread which submitted them.
+     *
+     * @return executor of this context
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Binds the task to the cluster and test context of the calling thread, so it can be run by any executor
+     *
+     * @param task task to run
+     * @return task running with the contexts of the calling thread
+     */
+    public Runnable withCurrentContext(Runnable task) {
+        return ThreadContext.capture().wrap(task);
+    }
+
     /**
      * Set the active context for this thread and auto‑restore on close.
      * This method is maintained for backward compatibility with existing thread-local context switching.
@@ -189,11 +360,7 @@ public final class KubeResourceManager {
      * @return context
      */
     public AutoCloseable useContext(String id) {
-        String ctxId = Optional.ofNullable(id).orElse(KubeTestConstants.DEFAULT_CONTEXT_NAME).toLowerCase();
-        if (!CLUSTER_CONFIGS.containsKey(ctxId)) {
-            throw new IllegalArgumentException("Unknown context '" + ctxId +
-                "'. Define env vars [KUBE_URL|KUBE_TOKEN|KUBECONFIG]_" + ctxId.toUpperCase());
-        }
+        String ctxId = requireKnownContext(id);
         LOGGER.info("Switching to context {}", ctxId);
         String prev = CURRENT_CLUSTER_CONTEXT.get();
         CURRENT_CLUSTER_CONTEXT.set(ctxId);
@@ -203,6 +370,145 @@ public final class KubeResourceManager {
         };
     }
 
+    private static String requireKnownContext(String id) {
+        String ctxId = Optional.ofNullable(id).orElse(KubeTestConstants.DEFAULT_CONTEXT_NAME).toLowerCase();
+        if (!CLUSTER_CONFIGS.containsKey(ctxId)) {
+            throw new IllegalArgumentException("Unknown context '" + ctxId +
+                "'. Define env vars [KUBE_URL|KUBE_TOKEN|KUBECONFIG]_" + ctxId.toUpperCase());
+        }
+        return ctxId;
+    }
+
+    /* ---------------------------  MULTI-CONTEXT FAN-OUT  ---------------------------- */
+
+    /**
+     * Runs the action against all given cluster contexts concurrently.
+     * Every context runs the action on its own executor, within its own operation limits, and stores created
+     * resources in its own stack for the current test. The method returns once the action finished in all
+     * contexts, failures of all contexts are reported together. Every context runs the action once, even when
+     * it is listed several times.
+     *
+     * @param contexts names of cluster contexts
+     * @param action   action run with the resource manager of every context
+     * @throws IllegalArgumentException when any of the contexts is unknown, the action does not run at all
+     * @throws MultiContextException    when the action failed in any context
+     */
+    public static void fanOut(Collection<String> contexts, Consumer<KubeResourceManager> action) {
+        // validate all contexts before anything runs, names differing only in case are the same context
+        Set<String> ctxIds = new LinkedHashSet<>();
+        for (String id : contexts) {
+            ctxIds.add(requireKnownContext(id));
+        }
+        Map<String, CompletableFuture<Void>> runs = new LinkedHashMap<>();
+        for (String ctxId : ctxIds) {
+            KubeResourceManager manager = getForContext(ctxId);
+            runs.put(ctxId, CompletableFuture.runAsync(() -> {
+                // the worker restores the cluster context of the caller once the action finishes
+                CURRENT_CLUSTER_CONTEXT.set(ctxId);
+                action.accept(manager);
+            }, manager.executor));
+        }
+
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        runs.forEach((ctxId, run) -> {
+            try {
+                run.join();
+            } catch (CompletionException e) {
+                LOGGER.error("Operation failed in context {}", ctxId, e.getCause());
+                failures.put(ctxId, e.getCause());
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw new MultiContextException(failures);
+        }
+    }
+
+    /**
+     * Runs the action against all configured cluster contexts concurrently, see {@link #fanOut(Collection, Consumer)}
+     *
+     * @param action action run with the resource manager of every context
+     * @throws MultiContextException when the action failed in any context
+     */
+    public static void fanOutToAllContexts(Consumer<KubeResourceManager> action) {
+        fanOut(CLUSTER_CONFIGS.keySet(), action);
+    }
+
+    /**
+     * Creates the same resources in all given contexts concurrently and waits for their readiness.
+     * Every context gets its own copy of the resources.
+     *
+     * @param contexts  names of cluster contexts
+     * @param resources resources to create
+     * @param <T>       type of the resources
+     * @throws MultiContextException when the creation failed in any context
+     */
+    @SafeVarargs
+    public static <T extends HasMetadata> void createResourceWithWaitOnContexts(Collection<String> contexts,
+                                                                                T... resources) {
+        fanOut(contexts, manager -> manager.createResourceAsyncWait(manager.copyOf(resources)));
+    }
+
+    /**
+     * Creates or updates the same resources in all given contexts concurrently and waits for their readiness.
+     * Every context gets its own copy of the resources.
+     *
+     * @param contexts  names of cluster contexts
+     * @param resources resources to create or update
+     * @param <T>       type of the resources
+     * @throws MultiContextException when the operation failed in any context
+     */
+    @SafeVarargs
+    public static <T extends HasMetadata> void createOrUpdateResourceWithWaitOnContexts(Collection<String> contexts,
+                                                                                        T... resources) {
+        fanOut(contexts, manager -> manager.createOrUpdateResourceAsyncWait(manager.copyOf(resources)));
+    }
+
+    /**
+     * Deletes the same resources in all given contexts concurrently and waits for their deletion.
+     *
+     * @param contexts  names of cluster contexts
+     * @param resources resources to delete
+     * @param <T>       type of the resources
+     * @throws MultiContextException when the deletion failed in any context
+     */
+    @SafeVarargs
+    public static <T extends HasMetadata> void deleteResourceWithWaitOnContexts(Collection<String> contexts,
+                                                                                T... resources) {
+        fanOut(contexts, manager -> manager.deleteResourceAsyncWait(manager.copyOf(resources)));
+    }
+
+    /**
+     * Waits for the resource condition in all given contexts concurrently
+     *
+     * @param contexts  names of cluster contexts
+     * @param resource  resource to wait for
+     * @param condition condition to fulfill
+     * @param <T>       type of the resource
+     * @throws MultiContextException when the condition was not fulfilled in any context
+     */
+    public static <T extends HasMetadata> void waitResourceConditionOnContexts(Collection<String> contexts,
+                                                                               T resource,
+                                                                               ResourceCondition<T> condition) {
+        fanOut(contexts, manager -> assertTrue(manager.waitResourceCondition(resource, condition),
+            "Condition " + condition.conditionName() + " not fulfilled for " + resource.getKind() + "/"
+                + resource.getMetadata().getName() + " in context " + manager.contextId));
+    }
+
+    /**
+     * Copies resources, so that contexts do not share (and mutate) the same objects
+     *
+     * @param resources resources to copy
+     * @param <T>       type of the resources
+     * @return copies of the resources
+     */
+    private <T extends HasMetadata> T[] copyOf(T[] resources) {
+        T[] copies = Arrays.copyOf(resources, resources.length);
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = kubeClient().getClient().getKubernetesSerialization().clone(resources[i]);
+        }
+        return copies;
+    }
+
     /**
      * Creates context for cluster id and connect clients
      *
@@ -302,6 +608,345 @@ public final class KubeResourceManager {
         GLOBAL_RESOURCE_TYPES.set(types);
     }
 
+    /**
+     * Enables or disables watch based waiting in {@link #waitResourceCondition(HasMetadata, ResourceCondition, long)}
+     * (applies to all contexts). When enabled, conditions are evaluated on events of a shared informer per
+     * kind and namespace instead of polling the API server for every waited resource.
+     * Enabled by default.
+     *
+     * @param enabled true for informer based waits, false for polling
+     */
+    public void setWatchBasedWaits(boolean enabled) {
+        globalWatchBasedWaits = enabled;
+    }
+
+    /**
+     * Returns whether watch based waiting is enabled
+     *
+     * @return true if conditions are evaluated on informer events
+     */
+    public boolean isWatchBasedWaits() {
+        return globalWatchBasedWaits;
+    }
+
+    /**
+     * Sets how resource conditions are polled when they are not evaluated on watch events, either because
+     * watch based waits are disabled or the watch cannot be started (applies to all contexts).
+     * {@link PollingMode#BATCHED_LIST} shares one LIST per kind and namespace between all waiters instead of
+     * a GET per waited resource. Default is {@link PollingMode#PER_RESOURCE}.
+     *
+     * @param mode polling mode
+     */
+    public void setPollingMode(PollingMode mode) {
+        globalPollingMode = Objects.requireNonNull(mode, "mode");
+    }
+
+    /**
+     * Returns the polling mode of resource conditions
+     *
+     * @return polling mode
+     */
+    public PollingMode getPollingMode() {
+        return globalPollingMode;
+    }
+
+    /**
+     * Enables or disables fail-fast waits in {@link #waitResourceCondition(HasMetadata, ResourceCondition, long)}
+     * and {@link io.skodjob.kubetest4j.utils.PodUtils} (applies to all contexts). When enabled, Pods and Events
+     * of the namespace are watched while a resource condition is waited for, and the wait fails right away
+     * with {@link WaitAbortedException} once a Pod of the resource is in {@code ImagePullBackOff},
+     * {@code CrashLoopBackOff} or stays unschedulable, instead of waiting for the timeout. Only waits for
+     * workloads (Pods, Deployments, StatefulSets, DaemonSets, ReplicaSets, Jobs and similar) are watched.
+     * A Pod can recover from such states on its own (f.e. once a registry or a dependency is available again),
+     * so this is disabled by default.
+     *
+     * @param enabled true for fail-fast waits
+     */
+    public void setFailFastWaits(boolean enabled) {
+        globalFailFastWaits = enabled;
+    }
+
+    /**
+     * Returns whether fail-fast waits are enabled
+     *
+     * @return true if waits fail on terminal Pod failures
+     */
+    public boolean isFailFastWaits() {
+        return globalFailFastWaits;
+    }
+
+    /**
+     * Returns number of GET calls which batched polling saved in this context, compared to polling every
+     * waited resource on its own
+     *
+     * @return number of saved API calls
+     */
+    public long getSavedPollingCalls() {
+        return batchedPoller.savedCalls();
+    }
+
+    /**
+     * Enables or disables namespace collapsing in {@link #deleteResources(boolean)} (applies to all contexts).
+     * When enabled, resources stored in a namespace which is managed by the resource manager as well
+     * are not deleted one by one, they are removed by the single deletion of their namespace.
+     * Resources with a registered {@link ResourceType} and items pushed with a custom {@link ThrowableRunner}
+     * are always deleted individually.
+     * Enabled by default.
+     *
+     * @param enabled true for collapsing resources into namespace deletion, false for deleting every resource
+     */
+    public void setNamespaceCollapsingTeardown(boolean enabled) {
+        globalNamespaceCollapsingTeardown = enabled;
+    }
+
+    /**
+     * Returns whether namespace collapsing teardown is enabled
+     *
+     * @return true if resources inside managed namespaces are removed by namespace deletion
+     */
+    public boolean isNamespaceCollapsingTeardown() {
+        return globalNamespaceCollapsingTeardown;
+    }
+
+    /**
+     * Sets the strategy used by createOrUpdate* methods for updating existing resources (applies to all contexts).
+     * {@link UpdateStrategy#GET_AND_UPDATE} is used by default.
+     *
+     * @param strategy update strategy
+     */
+    public void setUpdateStrategy(UpdateStrategy strategy) {
+        globalUpdateStrategy = Objects.requireNonNull(strategy, "strategy");
+    }
+
+    /**
+     * Returns the strategy used by createOrUpdate* methods for updating existing resources
+     *
+     * @return update strategy
+     */
+    public UpdateStrategy getUpdateStrategy() {
+        return globalUpdateStrategy;
+    }
+
+    /**
+     * Enables or disables compact resource references (applies to all contexts).
+     * When enabled, stored resources keep only apiVersion, kind, name, namespace, uid, resourceVersion and owner
+     * references instead of the full object, so large resources do not stay on the heap until teardown.
+     * Resources with a registered {@link ResourceType} are re-resolved from the cluster before their deletion,
+     * delete callbacks of other resources get the reference. Disabled by default.
+     *
+     * @param enabled true for storing compact references
+     */
+    public void setCompactResourceReferences(boolean enabled) {
+        globalCompactResourceReferences = enabled;
+    }
+
+    /**
+     * Returns whether compact resource references are enabled
+     *
+     * @return true if stored resources keep only a lightweight reference
+     */
+    public boolean isCompactResourceReferences() {
+        return globalCompactResourceReferences;
+    }
+
+    /**
+     * Returns number of resources which were stored as compact resource references in this context.
+     * The saved heap is reported as the number of replaced objects rather than in bytes, measuring the size
+     * of each object would need to serialize it and cost more than the compaction saves.
+     *
+     * @return number of compacted resources
+     */
+    public long getCompactedResourceCount() {
+        return compactedResources.get();
+    }
+
+    /**
+     * Enables or disables bulk teardown (applies to all contexts).
+     * When enabled, every created resource is labelled with {@link KubeTestConstants#RUN_ID_LABEL} and
+     * {@link KubeTestConstants#TEST_ID_LABEL}, and {@link #deleteResources()} removes resources without
+     * a registered {@link ResourceType} by one label selector delete per kind and namespace, followed by
+     * a single list based wait, instead of deleting and waiting for every resource on its own.
+     * Disabled by default.
+     *
+     * @param enabled true for bulk teardown
+     */
+    public void setBulkTeardown(boolean enabled) {
+        globalBulkTeardown = enabled;
+    }
+
+    /**
+     * Returns whether bulk teardown is enabled
+     *
+     * @return true if resources are labelled and deleted by label selector
+     */
+    public boolean isBulkTeardown() {
+        return globalBulkTeardown;
+    }
+
+    /**
+     * Sets ID of the test run used in {@link KubeTestConstants#RUN_ID_LABEL} (applies to all contexts).
+     * A random ID is generated for every JVM by default.
+     *
+     * @param runId ID of the run, it has to be a valid label value
+     */
+    public void setRunId(String runId) {
+        globalRunId = Objects.requireNonNull(runId, "runId");
+    }
+
+    /**
+     * Returns ID of the test run
+     *
+     * @return ID of the run
+     */
+    public String getRunId() {
+        return globalRunId;
+    }
+
+    /**
+     * Returns ID of the current test used in {@link KubeTestConstants#TEST_ID_LABEL}.
+     * The ID is derived from the unique ID of the test, so it is a valid label value and it differs
+     * for tests with the same display name in different classes.
+     *
+     * @return ID of the current test
+     */
+    public String getTestId() {
+        return UUID.nameUUIDFromBytes(getTestContext().getUniqueId().getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Enables the crash-safe resource journal (applies to all contexts).
+     * Every created and deleted resource is appended to the journal file, writes are batched and synced to the
+     * disk every {@link KubeTestConstants#JOURNAL_FLUSH_INTERVAL} ms. When the JVM dies before teardown, the
+     * next run can remove leftovers by {@link #recoverFromJournal()}.
+     * Every JVM writes its own file next to the path ({@code <path>.<pid>-<id>}), so parallel forks can use
+     * the same path and never recover resources of each other.
+     *
+     * @param path path of the journal shared by all runs, null disables the journal
+     */
+    public void setJournalPath(String path) {
+        synchronized (CREATION_LOCK) {
+            ResourceJournal previous = globalJournal;
+            if (previous != null) {
+                try {
+                    previous.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Cannot close resource journal {}: {}", previous.path(), e.getMessage());
+                }
+            }
+            if (path == null) {
+                globalJournal = null;
+                return;
+            }
+            ResourceJournal journal;
+            try {
+                journal = new ResourceJournal(Paths.get(path), KubeTestConstants.JOURNAL_FLUSH_INTERVAL);
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot open resource journal " + path, e);
+            }
+            if (!journalShutdownHook) {
+                // flush the records of the last interval of whichever journal is enabled when the JVM exits
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    ResourceJournal current = globalJournal;
+                    if (current != null) {
+                        try {
+                            current.close();
+                        } catch (IOException e) {
+                            LOGGER.warn("Cannot close resource journal {}: {}", current.path(), e.getMessage());
+                        }
+                    }
+                }, "kubetest4j-journal-close"));
+                journalShutdownHook = true;
+            }
+            globalJournal = journal;
+            LOGGER.info("Resource journal enabled in {}", path);
+        }
+    }
+
+    /**
+     * Returns path of the resource journal
+     *
+     * @return path of the journal file or null if the journal is disabled
+     */
+    public String getJournalPath() {
+        ResourceJournal journal = globalJournal;
+        return journal == null ? null : journal.path().toString();
+    }
+
+    /**
+     * Deletes resources of this context which were recorded in the resource journal and never deleted,
+     * f.e. because a previous run was killed before teardown. Only journals of JVMs which are gone are
+     * recovered, resources of forks which still run are left alone. Leftovers are deleted in parallel and the method
+     * returns once all of them are gone. Recovered resources are removed from the journal.
+     * Call it before any resource is created in the current run.
+     *
+     * @return number of deleted leftover resources
+     */
+    public int recoverFromJournal() {
+        ResourceJournal journal = globalJournal;
+        if (journal == null) {
+            throw new IllegalStateException("Resource journal is not enabled, set it by setJournalPath");
+        }
+        List<ResourceJournal.Entry> leftovers = journal.recoverable().stream()
+            .filter(entry -> entry.context().equals(this.contextId))
+            .toList();
+        if (leftovers.isEmpty()) {
+            LOGGER.info("No leftover resources in journal for [{}]", this.contextId);
+            return 0;
+        }
+        LOGGER.info("Deleting {} leftover resources from journal for [{}]", leftovers.size(), this.contextId);
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (ResourceJournal.Entry entry : leftovers) {
+            GenericKubernetesResource resource = new GenericKubernetesResourceBuilder()
+                .withApiVersion(entry.apiVersion())
+                .withKind(entry.kind())
+                .withNewMetadata()
+                    .withName(entry.name())
+                    .withNamespace(entry.namespace().isEmpty() ? null : entry.namespace())
+                .endMetadata()
+                .build();
+            waiters.add(CompletableFuture.runAsync(() -> {
+                LoggerUtils.logResource("Deleting leftover", resource);
+                withOperationPermit(() -> kubeClient().getClient().resource(resource).delete());
+                assertTrue(waitResourceCondition(resource, ResourceCondition.deletion()),
+                    "Timed out deleting " + resource.getKind() + "/" + resource.getMetadata().getName());
+            }, executor));
+        }
+        handleAsyncDeletion(waiters);
+        try {
+            journal.forget(leftovers);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot compact resource journal {}: {}", journal.path(), e.getMessage());
+        }
+        return leftovers.size();
+    }
+
+    /**
+     * Records a resource created outside the resource stack in the resource journal, f.e. a namespace
+     * pre-created by a pool, so {@link #recoverFromJournal()} removes it when the JVM dies before it is deleted.
+     * Does nothing when the journal is disabled.
+     *
+     * @param resource created resource
+     */
+    public void journalCreated(HasMetadata resource) {
+        ResourceJournal journal = globalJournal;
+        if (journal != null) {
+            journal.created(this.contextId, resource);
+        }
+    }
+
+    /**
+     * Records deletion of a resource recorded by {@link #journalCreated(HasMetadata)}.
+     * Does nothing when the journal is disabled.
+     *
+     * @param resource deleted resource
+     */
+    public void journalDeleted(HasMetadata resource) {
+        ResourceJournal journal = globalJournal;
+        if (journal != null) {
+            journal.deleted(this.contextId, resource);
+        }
+    }
+
     /**
      * Adds callback which is called after every created resource (applies to all contexts)
      *
@@ -321,7 +966,9 @@ public final class KubeResourceManager {
     }
 
     /**
-     * Sets the maximum number of concurrent async operations (create/delete) against the Kubernetes API.
+     * Sets the maximum number of concurrent async operations (create/delete) against the Kubernetes API
+     * of this context. With adaptive concurrency the current limit moves between one and this maximum.
+     * The initial value can be set by {@code KUBE_MAX_CONCURRENT_OPERATIONS[_<CONTEXT>]}.
      *
      * @param maxConcurrentOps maximum number of concurrent operations
      */
@@ -330,9 +977,8 @@ public final class KubeResourceManager {
             throw new IllegalArgumentException(
                 "maxConcurrentOperations must be positive, got: " + maxConcurrentOps);
         }
-        MAX_CONCURRENT_OPERATIONS.set(maxConcurrentOps);
-        OPERATION_SEMAPHORE.set(new Semaphore(maxConcurrentOps));
-        LOGGER.info("Max concurrent operations set to {}", maxConcurrentOps);
+        operationLimiter.setMaxLimit(maxConcurrentOps);
+        LOGGER.info("Max concurrent operations for context {} set to {}", contextId, maxConcurrentOps);
     }
 
     /**
@@ -341,7 +987,87 @@ public final class KubeResourceManager {
      * @return configured max concurrent operations
      */
     public int getMaxConcurrentOperations() {
-        return MAX_CONCURRENT_OPERATIONS.get();
+        return operationLimiter.maxLimit();
+    }
+
+    /**
+     * Enables or disables adaptive concurrency of operations against the Kubernetes API of this context.
+     * When enabled, the limit of concurrent operations grows while API calls stay under the latency target
+     * and is cut in half on throttling (429), server errors (5xx) and timeouts.
+     * When disabled, the limit is fixed on {@link #getMaxConcurrentOperations()}. Enabled by default.
+     *
+     * @param enabled true for adaptive concurrency
+     */
+    public void setAdaptiveConcurrency(boolean enabled) {
+        operationLimiter.setAdaptive(enabled);
+        LOGGER.info("Adaptive concurrency for context {} {}", contextId, enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Returns whether adaptive concurrency of operations is enabled
+     *
+     * @return true if the limit of concurrent operations adapts to the API server
+     */
+    public boolean isAdaptiveConcurrency() {
+        return operationLimiter.isAdaptive();
+    }
+
+    /**
+     * Sets the latency target of API calls used by adaptive concurrency, only faster calls grow the limit.
+     *
+     * @param latencyTargetMs latency target in milliseconds
+     */
+    public void setOperationLatencyTarget(long latencyTargetMs) {
+        if (latencyTargetMs <= 0) {
+            throw new IllegalArgumentException(
+                "latencyTargetMs must be positive, got: " + latencyTargetMs);
+        }
+        operationLimiter.setLatencyTarget(latencyTargetMs);
+    }
+
+    /**
+     * Returns the current limit of concurrent operations, lower or equal to {@link #getMaxConcurrentOperations()}.
+     *
+     * @return current limit of concurrent operations
+     */
+    public int getCurrentOperationLimit() {
+        return operationLimiter.currentLimit();
+    }
+
+    /**
+     * Returns the number of operations of this context waiting for the operation limit.
+     *
+     * @return operation queue depth
+     */
+    public int getOperationQueueDepth() {
+        return operationLimiter.queueDepth();
+    }
+
+    /**
+     * Sets the maximum number of concurrent probes done by readiness and deletion waits against this context.
+     * The initial value can be set by {@code KUBE_MAX_CONCURRENT_PROBES[_<CONTEXT>]}.
+     * Waits borrow a permit only for the duration of a single probe, so they never block mutating operations
+     * limited by {@link #setMaxConcurrentOperations(int)}.
+     *
+     * @param maxConcurrentProbes maximum number of concurrent probes
+     */
+    public void setMaxConcurrentProbes(int maxConcurrentProbes) {
+        if (maxConcurrentProbes <= 0) {
+            throw new IllegalArgumentException(
+                "maxConcurrentProbes must be positive, got: " + maxConcurrentProbes);
+        }
+        this.maxConcurrentProbes.set(maxConcurrentProbes);
+        probeSemaphore.set(new Semaphore(maxConcurrentProbes));
+        LOGGER.info("Max concurrent probes for context {} set to {}", contextId, maxConcurrentProbes);
+    }
+
+    /**
+     * Returns the configured maximum number of concurrent probes done by readiness and deletion waits.
+     *
+     * @return configured max concurrent probes
+     */
+    public int getMaxConcurrentProbes() {
+        return maxConcurrentProbes.get();
     }
 
     /**
@@ -353,6 +1079,24 @@ public final class KubeResourceManager {
         TEST_CONTEXT.set(ctx);
     }
 
+    /**
+     * Set the test context for this thread and auto-restore the previous one on close.
+     *
+     * @param ctx extension context
+     * @return scope of the test context
+     */
+    public AutoCloseable useTestContext(ExtensionContext ctx) {
+        ExtensionContext prev = TEST_CONTEXT.get();
+        TEST_CONTEXT.set(ctx);
+        return () -> {
+            if (prev == null) {
+                TEST_CONTEXT.remove();
+            } else {
+                TEST_CONTEXT.set(prev);
+            }
+        };
+    }
+
     /**
      * Returns extension context for current test
      *
@@ -369,6 +1113,15 @@ public final class KubeResourceManager {
         TEST_CONTEXT.remove();
     }
 
+    /**
+     * Sets the active cluster context for this thread, without restoring the previous one.
+     *
+     * @param id name of cluster context
+     */
+    public void setClusterContext(String id) {
+        CURRENT_CLUSTER_CONTEXT.set(requireKnownContext(id));
+    }
+
     /**
      * Clean test extension context
      */
@@ -383,10 +1136,34 @@ public final class KubeResourceManager {
      * @param <T>      The type of the resource.
      */
     public <T extends HasMetadata> void pushToStack(T resource) {
-        STORED_RESOURCES
-            .computeIfAbsent(this.contextId, c -> new ConcurrentHashMap<>())
-            .computeIfAbsent(getTestContext().getDisplayName(), t -> new Stack<>())
-            .push(new ResourceItem<>(() -> deleteResourceWithWait(resource), resource));
+        ResourceItem<T> item;
+        if (globalCompactResourceReferences) {
+            T reference = ResourceReferences.reference(resource);
+            if (reference != resource) {
+                compactedResources.incrementAndGet();
+            }
+            item = new ResourceItem<>(new DefaultDelete(() -> deleteResourceWithWait(resolveReference(reference))),
+                reference);
+        } else {
+            item = new ResourceItem<>(new DefaultDelete(() -> deleteResourceWithWait(resource)), resource);
+        }
+        pushToStack(item);
+    }
+
+    /**
+     * Resolves the full resource of a compact reference, when a {@link ResourceType} is registered for it.
+     * Generic deletion needs only the name and namespace, so other references are returned as they are.
+     *
+     * @param reference compact reference
+     * @param <T>       type of the resource
+     * @return current resource from the cluster, or the reference if it is not needed or cannot be found
+     */
+    private <T extends HasMetadata> T resolveReference(T reference) {
+        if (findResourceType(reference) == null) {
+            return reference;
+        }
+        T current = kubeClient().getClient().resource(reference).get();
+        return current == null ? reference : current;
     }
 
     /**
@@ -395,9 +1172,13 @@ public final class KubeResourceManager {
      * @param item The resource item to push.
      */
     public void pushToStack(ResourceItem<?> item) {
+        ResourceJournal journal = globalJournal;
+        if (journal != null && item.resource() != null) {
+            journal.created(this.contextId, item.resource());
+        }
         STORED_RESOURCES
             .computeIfAbsent(this.contextId, c -> new ConcurrentHashMap<>())
-            .computeIfAbsent(getTestContext().getDisplayName(), t -> new Stack<>())
+            .computeIfAbsent(getTestContext().getUniqueId(), t -> new ResourceRegistry())
             .push(item);
     }
 
@@ -408,7 +1189,7 @@ public final class KubeResourceManager {
      * @param <T>      The type of the resource.
      */
     public <T extends HasMetadata> void removeFromStack(T resource) {
-        Map<String, Stack<ResourceItem<?>>> byTest = STORED_RESOURCES.get(this.contextId);
+        Map<String, ResourceRegistry> byTest = STORED_RESOURCES.get(this.contextId);
         if (byTest == null) {
             return;
         }
@@ -416,14 +1197,16 @@ public final class KubeResourceManager {
         if (ctx == null) {
             return;
         }
-        Stack<ResourceItem<?>> stack = byTest.get(ctx.getDisplayName());
-        if (stack == null) {
+        ResourceRegistry registry = byTest.get(ctx.getUniqueId());
+        if (registry == null) {
             return;
         }
-        stack.removeIf(item -> item.resource() != null
-            && item.resource().getKind().equals(resource.getKind())
-            && Objects.equals(item.resource().getMetadata().getNamespace(), resource.getMetadata().getNamespace())
-            && item.resource().getMetadata().getName().equals(resource.getMetadata().getName()));
+        if (registry.remove(resource) > 0) {
+            ResourceJournal journal = globalJournal;
+            if (journal != null) {
+                journal.deleted(this.contextId, resource);
+            }
+        }
     }
 
     /* ─────────────────────────  RESOURCE I/O HELPERS  ─────────────────────── */
@@ -460,11 +1243,21 @@ public final class KubeResourceManager {
      */
     public void printAllResources(Level logLevel) {
         LOGGER.atLevel(logLevel).log("Printing all managed resources across all contexts");
+        if (globalCompactResourceReferences) {
+            CONTEXT_INSTANCES.forEach((ctxId, manager) -> LOGGER.atLevel(logLevel)
+                .log("Compact resource references in context [{}] replaced {} stored resources",
+                    ctxId, manager.getCompactedResourceCount()));
+        }
+        if (globalPollingMode == PollingMode.BATCHED_LIST) {
+            CONTEXT_INSTANCES.forEach((ctxId, manager) -> LOGGER.atLevel(logLevel)
+                .log("Batched polling in context [{}] saved {} API calls",
+                    ctxId, manager.getSavedPollingCalls()));
+        }
         STORED_RESOURCES.forEach((ctxId, byTest) -> {
             LOGGER.atLevel(logLevel).log("Context [{}]", ctxId);
-            byTest.forEach((test, stack) -> {
+            byTest.forEach((test, registry) -> {
                 LOGGER.atLevel(logLevel).log("  Test: {}", test);
-                stack.forEach(item -> Optional.ofNullable(item.resource())
+                registry.snapshot().forEach(item -> Optional.ofNullable(item.resource())
                     .ifPresent(r -> LoggerUtils.logResource("Managed resource:", logLevel, r)));
             });
         });
@@ -477,104 +1270,184 @@ public final class KubeResourceManager {
      */
     public void printCurrentResources(Level logLevel) {
         String ctxId = this.contextId;
-        String test = getTestContext().getDisplayName();
-        LOGGER.atLevel(logLevel).log("Resources in [{}]/{}", ctxId, test);
+        ExtensionContext test = getTestContext();
+        LOGGER.atLevel(logLevel).log("Resources in [{}]/{}", ctxId, test.getDisplayName());
         Optional.ofNullable(STORED_RESOURCES.get(ctxId))
-            .map(m -> m.get(test))
-            .ifPresent(stack -> stack.forEach(i ->
+            .map(m -> m.get(test.getUniqueId()))
+            .ifPresent(registry -> registry.snapshot().forEach(i ->
                 Optional.ofNullable(i.resource()).ifPresent(r ->
                     LoggerUtils.logResource("Managed resource:", logLevel, r))));
     }
 
     /**
-     * Returns a list of all resources currently tracked for the active test context.
+     * Returns a list of all resources currently tracked for the active test context.
+     *
+     * @return list of tracked resources for the current test
+     */
+    public List<HasMetadata> getCurrentResources() {
+        String test = getTestContext().getUniqueId();
+        return Optional.ofNullable(STORED_RESOURCES.get(this.contextId))
+            .map(m -> m.get(test))
+            .map(registry -> {
+                List<HasMetadata> resources = new ArrayList<>();
+                for (ResourceItem<?> item : registry.snapshot()) {
+                    if (item.resource() != null) {
+                        resources.add(item.resource());
+                    }
+                }
+                return Collections.unmodifiableList(resources);
+            })
+            .orElse(Collections.emptyList());
+    }
+
+    /* ──────────────────  CREATE / UPDATE / DELETE IMPLEMENTATION  ─────────── */
+
+    // ---------------------------  Resource create  ---------------------------
+
+    /**
+     * Creates resources without waiting for readiness.
+     *
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
+     */
+    @SafeVarargs
+    public final <T extends HasMetadata> void createResourceWithoutWait(T... resources) {
+        createOrUpdateResource(false, false, false, globalUpdateStrategy, resources);
+    }
+
+    /**
+     * Creates resources and waits for readiness.
+     *
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
+     */
+    @SafeVarargs
+    public final <T extends HasMetadata> void createResourceWithWait(T... resources) {
+        createOrUpdateResource(false, true, false, globalUpdateStrategy, resources);
+    }
+
+    /**
+     * Creates or updates resources and waits for readiness.
+     *
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
+     */
+    @SafeVarargs
+    public final <T extends HasMetadata> void createOrUpdateResourceWithWait(T... resources) {
+        createOrUpdateResource(false, true, true, globalUpdateStrategy, resources);
+    }
+
+    /**
+     * Creates or updates resources with the given update strategy and waits for readiness.
+     *
+     * @param strategy  The update strategy.
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
+     */
+    @SafeVarargs
+    public final <T extends HasMetadata> void createOrUpdateResourceWithWait(UpdateStrategy strategy, T... resources) {
+        createOrUpdateResource(false, true, true, strategy, resources);
+    }
+
+    /**
+     * Creates or updates resources.
+     *
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
+     */
+    @SafeVarargs
+    public final <T extends HasMetadata> void createOrUpdateResourceWithoutWait(T... resources) {
+        createOrUpdateResource(false, false, true, globalUpdateStrategy, resources);
+    }
+
+    /**
+     * Creates or updates resources with the given update strategy.
      *
-     * @return list of tracked resources for the current test
+     * @param strategy  The update strategy.
+     * @param resources The resources to create.
+     * @param <T>       The type of the resources.
      */
-    public List<HasMetadata> getCurrentResources() {
-        String test = getTestContext().getDisplayName();
-        return Optional.ofNullable(STORED_RESOURCES.get(this.contextId))
-            .map(m -> m.get(test))
-            .map(stack -> {
-                List<HasMetadata> resources = new ArrayList<>();
-                for (ResourceItem<?> item : stack) {
-                    if (item.resource() != null) {
-                        resources.add(item.resource());
-                    }
-                }
-                return Collections.unmodifiableList(resources);
-            })
-            .orElse(Collections.emptyList());
+    @SafeVarargs
+    public final <T extends HasMetadata> void createOrUpdateResourceWithoutWait(UpdateStrategy strategy,
+                                                                                T... resources) {
+        createOrUpdateResource(false, false, true, strategy, resources);
     }
 
-    /* ──────────────────  CREATE / UPDATE / DELETE IMPLEMENTATION  ─────────── */
-
-    // ---------------------------  Resource create  ---------------------------
-
     /**
-     * Creates resources without waiting for readiness.
+     * Creates resources and wait on the end for all readiness.
      *
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createResourceWithoutWait(T... resources) {
-        createOrUpdateResource(false, false, false, resources);
+    public final <T extends HasMetadata> void createResourceAsyncWait(T... resources) {
+        createOrUpdateResource(true, true, false, globalUpdateStrategy, resources);
     }
 
     /**
-     * Creates resources and waits for readiness.
+     * Creates or updates resources and wait on the end for all readiness.
      *
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createResourceWithWait(T... resources) {
-        createOrUpdateResource(false, true, false, resources);
+    public final <T extends HasMetadata> void createOrUpdateResourceAsyncWait(T... resources) {
+        createOrUpdateResource(true, true, true, globalUpdateStrategy, resources);
     }
 
     /**
-     * Creates or updates resources and waits for readiness.
+     * Creates or updates resources with the given update strategy and wait on the end for all readiness.
      *
+     * @param strategy  The update strategy.
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createOrUpdateResourceWithWait(T... resources) {
-        createOrUpdateResource(false, true, true, resources);
+    public final <T extends HasMetadata> void createOrUpdateResourceAsyncWait(UpdateStrategy strategy,
+                                                                              T... resources) {
+        createOrUpdateResource(true, true, true, strategy, resources);
     }
 
     /**
-     * Creates or updates resources.
+     * Creates resources without blocking the caller. Resources are stored for teardown right away,
+     * their creation and readiness wait run in the background.
      *
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
+     * @return handle with a future per resource, completed once the resource is ready
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createOrUpdateResourceWithoutWait(T... resources) {
-        createOrUpdateResource(false, false, true, resources);
+    public final <T extends HasMetadata> ResourceFutures<T> createResourceAsync(T... resources) {
+        return new ResourceFutures<>(startCreateOrUpdate(true, true, false, globalUpdateStrategy, resources),
+            executor);
     }
 
     /**
-     * Creates resources and wait on the end for all readiness.
+     * Creates or updates resources without blocking the caller. Resources are stored for teardown right away,
+     * their creation and readiness wait run in the background.
      *
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
+     * @return handle with a future per resource, completed once the resource is ready
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createResourceAsyncWait(T... resources) {
-        createOrUpdateResource(true, true, false, resources);
+    public final <T extends HasMetadata> ResourceFutures<T> createOrUpdateResourceAsync(T... resources) {
+        return createOrUpdateResourceAsync(globalUpdateStrategy, resources);
     }
 
     /**
-     * Creates or updates resources and wait on the end for all readiness.
+     * Creates or updates resources with the given update strategy without blocking the caller.
+     * Resources are stored for teardown right away, their creation and readiness wait run in the background.
      *
+     * @param strategy  The update strategy.
      * @param resources The resources to create.
      * @param <T>       The type of the resources.
+     * @return handle with a future per resource, completed once the resource is ready
      */
     @SafeVarargs
-    public final <T extends HasMetadata> void createOrUpdateResourceAsyncWait(T... resources) {
-        createOrUpdateResource(true, true, true, resources);
+    public final <T extends HasMetadata> ResourceFutures<T> createOrUpdateResourceAsync(UpdateStrategy strategy,
+                                                                                      T... resources) {
+        return new ResourceFutures<>(startCreateOrUpdate(true, true, true, strategy, resources), executor);
     }
 
     /**
@@ -583,36 +1456,58 @@ public final class KubeResourceManager {
      * @param async       Flag waiting for all resources on the end
      * @param waitReady   Flag indicating whether to wait for readiness.
      * @param allowUpdate Flag indicating if update resource is allowed
+     * @param strategy    Strategy used for updating existing resources
      * @param resources   The resources to create.
      * @param <T>         The type of the resources.
      */
     @SafeVarargs
     private <T extends HasMetadata> void createOrUpdateResource(
-        boolean async, boolean waitReady, boolean allowUpdate, T... resources) {
-        List<CompletableFuture<Void>> promises = new ArrayList<>();
+        boolean async, boolean waitReady, boolean allowUpdate, UpdateStrategy strategy, T... resources) {
+        List<CompletableFuture<T>> promises =
+            startCreateOrUpdate(async, waitReady, allowUpdate, strategy, resources);
 
-        for (T resource : resources) {
+        try {
+            CompletableFuture.allOf(promises.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            LOGGER.error("Exception during wait for resources to be ready", cause);
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Stores resources for teardown and starts their creation and readiness wait.
+     *
+     * @param async       Flag waiting for all resources on the end
+     * @param waitReady   Flag indicating whether to wait for readiness.
+     * @param allowUpdate Flag indicating if update resource is allowed
+     * @param strategy    Strategy used for updating existing resources
+     * @param resources   The resources to create.
+     * @param <T>         The type of the resources.
+     * @return futures completed with the resources once they are created, or ready if waitReady is true
+     */
+    @SafeVarargs
+    private <T extends HasMetadata> List<CompletableFuture<T>> startCreateOrUpdate(
+        boolean async, boolean waitReady, boolean allowUpdate, UpdateStrategy strategy, T... resources) {
+        List<CompletableFuture<T>> promises = new ArrayList<>();
+
+        for (T original : resources) {
+            // the labels are set on a copy, the object of the caller stays as it is
+            T resource = globalBulkTeardown ? labelled(original) : original;
             ResourceType<T> type = findResourceType(resource);
+            awaitDeferredDeletion(resource);
             pushToStack(resource);
             if (globalStoreYamlPath != null) {
                 writeResourceAsYaml(resource);
             }
 
-            if (type == null) {
-                promises.add(createOrUpdateResource(async, waitReady, allowUpdate, resource));
-            } else {
-                promises.add(createOrUpdateResource(async, waitReady, allowUpdate, resource, type));
-            }
+            CompletableFuture<Void> promise = type == null
+                ? createOrUpdateResource(async, waitReady, allowUpdate, strategy, resource)
+                : createOrUpdateResource(async, waitReady, allowUpdate, strategy, resource, type);
+            promises.add(promise.thenApply(nothing -> resource));
             GLOBAL_CREATE_CALLBACKS.forEach(cb -> cb.accept(resource));
         }
-
-        try {
-            CompletableFuture.allOf(promises.toArray(CompletableFuture[]::new)).join();
-        } catch (CompletionException e) {
-            Throwable cause = e.getCause();
-            LOGGER.error("Exception during wait for resources to be ready", cause);
-            throw new RuntimeException(cause.getMessage(), cause);
-        }
+        return promises;
     }
 
     /**
@@ -621,6 +1516,7 @@ public final class KubeResourceManager {
      * @param async       Flag waiting for all resources on the end
      * @param waitReady   Flag indicating whether to wait for readiness.
      * @param allowUpdate Flag indicating if update resource is allowed
+     * @param strategy    Strategy used for updating existing resources
      * @param resource    The resource to create.
      * @param <T>         The type of the resources.
      * @return a CompletableFuture promise that will complete when the resource is
@@ -628,43 +1524,37 @@ public final class KubeResourceManager {
      *         true.
      */
     private <T extends HasMetadata> CompletableFuture<Void> createOrUpdateResource(
-            boolean async, boolean waitReady, boolean allowUpdate, T resource) {
-
-        CompletableFuture<Void> promise = CompletableFuture.runAsync(() -> {
-            OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-            try {
-                if (allowUpdate && kubeClient().getClient().resource(resource).get() != null) {
-                    LoggerUtils.logResource("Updating", resource);
-                    kubeClient().getClient().resource(resource).update();
-                } else {
-                    LoggerUtils.logResource("Creating", resource);
-                    kubeClient().getClient().resource(resource).create();
-                }
-            } finally {
-                OPERATION_SEMAPHORE.get().release();
+            boolean async, boolean waitReady, boolean allowUpdate, UpdateStrategy strategy, T resource) {
+
+        CompletableFuture<Void> promise = CompletableFuture.runAsync(() -> withOperationPermit(() -> {
+            if (allowUpdate && strategy.isServerSideApply()) {
+                LoggerUtils.logResource("Applying", resource);
+                kubeClient().serverSideApply(null, resource, strategy == UpdateStrategy.SERVER_SIDE_APPLY_FORCE);
+            } else if (allowUpdate && kubeClient().getClient().resource(resource).get() != null) {
+                LoggerUtils.logResource("Updating", resource);
+                kubeClient().getClient().resource(resource).update();
+            } else {
+                LoggerUtils.logResource("Creating", resource);
+                kubeClient().getClient().resource(resource).create();
             }
-        }, EXECUTOR);
+        }), executor);
 
         if (!waitReady) {
             return promise;
         }
 
-        promise = promise.thenRunAsync(() -> {
-            OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-            try {
-                assertTrue(waitResourceCondition(resource,
-                        new ResourceCondition<>(p -> {
-                            if (isResourceWithReadiness(resource)) {
-                                return kubeClient().getClient().resource(resource).isReady();
-                            }
-                            return kubeClient().getClient().resource(resource) != null;
-                        }, "ready")),
-                    "Timed out waiting for " + resource.getKind() + "/" +
-                        resource.getMetadata().getName());
-            } finally {
-                OPERATION_SEMAPHORE.get().release();
-            }
-        }, EXECUTOR);
+        // readiness wait does not hold an operation permit, every probe borrows a probe permit instead
+        promise = promise.thenRunAsync(() ->
+            assertTrue(waitResourceCondition(resource,
+                    new ResourceCondition<>(p -> {
+                        if (isResourceWithReadiness(resource)) {
+                            return p != null
+                                && kubeClient().getClient().getConfiguration().getReadiness().isReady(p);
+                        }
+                        return p != null;
+                    }, "ready")),
+                "Timed out waiting for " + resource.getKind() + "/" +
+                    resource.getMetadata().getName()), executor);
 
         if (async) {
             return promise;
@@ -689,6 +1579,7 @@ public final class KubeResourceManager {
      * @param async       Flag waiting for all resources on the end
      * @param waitReady   Flag indicating whether to wait for readiness.
      * @param allowUpdate Flag indicating if update resource is allowed
+     * @param strategy    Strategy used for updating existing resources
      * @param resource    The resource to create.
      * @param type        The resource type helper
      * @param <T>         The type of the resources.
@@ -697,22 +1588,22 @@ public final class KubeResourceManager {
      *         true.
      */
     private <T extends HasMetadata> CompletableFuture<Void> createOrUpdateResource(
-            boolean async, boolean waitReady, boolean allowUpdate, T resource, ResourceType<T> type) {
-
-        CompletableFuture<Void> promise = CompletableFuture.runAsync(() -> {
-            OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-            try {
-                if (allowUpdate && kubeClient().getClient().resource(resource).get() != null) {
-                    LoggerUtils.logResource("Updating", resource);
-                    type.update(resource);
-                } else {
-                    LoggerUtils.logResource("Creating", resource);
-                    type.create(resource);
-                }
-            } finally {
-                OPERATION_SEMAPHORE.get().release();
+            boolean async, boolean waitReady, boolean allowUpdate, UpdateStrategy strategy, T resource,
+            ResourceType<T> type) {
+
+        CompletableFuture<Void> promise = CompletableFuture.runAsync(() -> withOperationPermit(() -> {
+            if (allowUpdate && strategy.isServerSideApply()) {
+                // server-side apply goes through the generic client, the type still drives the readiness wait
+                LoggerUtils.logResource("Applying", resource);
+                kubeClient().serverSideApply(null, resource, strategy == UpdateStrategy.SERVER_SIDE_APPLY_FORCE);
+            } else if (allowUpdate && kubeClient().getClient().resource(resource).get() != null) {
+                LoggerUtils.logResource("Updating", resource);
+                type.update(resource);
+            } else {
+                LoggerUtils.logResource("Creating", resource);
+                type.create(resource);
             }
-        }, EXECUTOR);
+        }), executor);
 
         if (!waitReady) {
             return promise;
@@ -721,16 +1612,11 @@ public final class KubeResourceManager {
         long timeout = Objects.requireNonNullElse(type.getTimeoutForResourceReadiness(),
             KubeTestConstants.GLOBAL_TIMEOUT_MEDIUM);
 
-        promise = promise.thenRunAsync(() -> {
-            OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-            try {
-                assertTrue(waitResourceCondition(resource, ResourceCondition.readiness(type), timeout),
-                    "Timed out waiting for " + resource.getKind() + "/" +
-                        resource.getMetadata().getName());
-            } finally {
-                OPERATION_SEMAPHORE.get().release();
-            }
-        }, EXECUTOR);
+        // readiness wait does not hold an operation permit, every probe borrows a probe permit instead
+        promise = promise.thenRunAsync(() ->
+            assertTrue(waitResourceCondition(resource, ResourceCondition.readiness(type), timeout),
+                "Timed out waiting for " + resource.getKind() + "/" +
+                    resource.getMetadata().getName()), executor);
 
         if (async) {
             return promise;
@@ -798,9 +1684,9 @@ public final class KubeResourceManager {
             LoggerUtils.logResource("Deleting", resource);
             try {
                 if (type == null) {
-                    kubeClient().getClient().resource(resource).delete();
+                    withOperationPermit(() -> kubeClient().getClient().resource(resource).delete());
                 } else {
-                    type.delete(resource);
+                    withOperationPermit(() -> type.delete(resource));
                 }
 
                 removeFromStack(resource);
@@ -936,6 +1822,11 @@ public final class KubeResourceManager {
 
     /**
      * Waits for a resource condition to be fulfilled.
+     * When watch based waits are enabled (see {@link #setWatchBasedWaits(boolean)}), the condition is evaluated
+     * on events of an informer shared by all waiters of the same kind and namespace. If the informer cannot
+     * be started, the current state of the resource is polled instead.
+     * When fail-fast waits are enabled (see {@link #setFailFastWaits(boolean)}), the wait for a workload fails
+     * with {@link WaitAbortedException} as soon as a Pod of the resource is failing.
      *
      * @param resource        The resource to wait for.
      * @param condition       The condition to fulfill.
@@ -945,10 +1836,113 @@ public final class KubeResourceManager {
      */
     public <T extends HasMetadata> boolean waitResourceCondition(
         T resource, ResourceCondition<T> condition, long resourceTimeout) {
+        assertNotNull(resource);
+        assertNotNull(resource.getMetadata());
+        String namespace = resource.getMetadata().getNamespace();
+        if (!globalFailFastWaits || condition.waitsForDeletion() || namespace == null
+            || !PodFailureWatcher.isWorkload(resource)) {
+            return awaitCondition(resource, condition, resourceTimeout);
+        }
+        try (PodFailureWatcher.Watch watch = failureWatcher.watch(kubeClient().getClient(), namespace)) {
+            // Pods are checked on every evaluation of the condition, so a failure ends the wait with the next probe
+            // the evaluation holds a probe permit, which also covers the owner lookups of the check
+            return awaitCondition(resource, new ResourceCondition<>(r -> {
+                watch.checkFailure(resource);
+                return condition.predicate().test(r);
+            }, condition.conditionName(), condition.abortPredicate(), false), resourceTimeout);
+        }
+    }
+
+    /**
+     * Waits for a resource condition using the informer cache, the batched poller or polling of the resource
+     *
+     * @param resource        The resource to wait for.
+     * @param condition       The condition to fulfill.
+     * @param resourceTimeout Timeout for resource condition
+     * @param <T>             The type of the resource.
+     * @return True if the condition is fulfilled
+     */
+    private <T extends HasMetadata> boolean awaitCondition(T resource, ResourceCondition<T> condition,
+                                                           long resourceTimeout) {
+        if (globalWatchBasedWaits) {
+            try {
+                return awaitShared(resource, condition, resourceTimeout, informerCache::await);
+            } catch (KubernetesClientException e) {
+                LOGGER.debug("Cannot watch {}/{}, falling back to polling: {}",
+                    resource.getKind(), resource.getMetadata().getName(), e.getMessage());
+            }
+        }
+        if (globalPollingMode == PollingMode.BATCHED_LIST) {
+            try {
+                return awaitShared(resource, condition, resourceTimeout, batchedPoller::await);
+            } catch (KubernetesClientException e) {
+                LOGGER.debug("Cannot list {}/{}, falling back to polling of the resource: {}",
+                    resource.getKind(), resource.getMetadata().getName(), e.getMessage());
+            }
+        }
         return waitResourceCondition(resource, condition, resourceTimeout,
             () -> kubeClient().getClient().resource(resource).get());
     }
 
+    /**
+     * Waits for a resource condition evaluated by a waiter shared with other resources of the same kind
+     *
+     * @param resource        The resource to wait for.
+     * @param condition       The condition to fulfill.
+     * @param resourceTimeout Timeout for resource condition
+     * @param waiter          Shared waiter, the informer cache or the batched poller
+     * @param <T>             The type of the resource.
+     * @return True if the condition is fulfilled
+     * @throws KubernetesClientException when the shared waiter cannot be started
+     */
+    private <T extends HasMetadata> boolean awaitShared(T resource, ResourceCondition<T> condition,
+                                                        long resourceTimeout, SharedWaiter waiter) {
+        assertNotNull(resource);
+        assertNotNull(resource.getMetadata());
+        assertNotNull(resource.getMetadata().getName());
+        String description = String.format("Resource condition: %s to be fulfilled for resource %s/%s",
+            condition.conditionName(), resource.getKind(), resource.getMetadata().getName());
+        LOGGER.info("Waiting for: {}", description);
+        // not finished when the waiter cannot be started, the fallback wait is recorded instead
+        WaitTelemetry.Measurement measurement = WaitTelemetry.start(description, resource.getKind(), resourceTimeout);
+        boolean ready;
+        try {
+            ready = waiter.await(kubeClient().getClient(), resource, r -> {
+                measurement.probe();
+                try {
+                    return withProbePermit(() -> condition.evaluate(r));
+                } catch (WaitAbortedException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    measurement.exception();
+                    throw e;
+                }
+            }, resourceTimeout);
+        } catch (WaitAbortedException e) {
+            measurement.finish(WaitOutcome.ABORTED);
+            throw e;
+        }
+        if (ready) {
+            measurement.finish(WaitOutcome.SUCCESS);
+            return true;
+        }
+        measurement.finish(WaitOutcome.TIMEOUT);
+        WaitException waitException = new WaitException("Timeout after " + resourceTimeout
+            + " ms waiting for " + description);
+        LOGGER.error(waitException.getMessage(), waitException);
+        throw waitException;
+    }
+
+    /**
+     * Waiter evaluating conditions of many resources together, see {@link ResourceInformerCache} and
+     * {@link BatchedResourcePoller}
+     */
+    @FunctionalInterface
+    private interface SharedWaiter {
+        <T extends HasMetadata> boolean await(KubernetesClient client, T resource, Predicate<T> predicate,
+                                              long timeoutMs);
+    }
+
     /**
      * Waits for a resource condition to be fulfilled.
      *
@@ -965,17 +1959,20 @@ public final class KubeResourceManager {
         assertNotNull(resource.getMetadata());
         assertNotNull(resource.getMetadata().getName());
         boolean[] ready = new boolean[1];
-        Wait.until(String.format("Resource condition: %s to be fulfilled for resource %s/%s",
+        WaitTelemetry.withKind(resource.getKind(), () -> Wait.until(
+            String.format("Resource condition: %s to be fulfilled for resource %s/%s",
                 condition.conditionName(), resource.getKind(), resource.getMetadata().getName()),
-            KubeTestConstants.GLOBAL_POLL_INTERVAL_MEDIUM, resourceTimeout, () -> {
+            KubeTestConstants.POLL_STRATEGY_FOR_RESOURCE_READINESS, resourceTimeout, () -> {
                 LOGGER.trace("Obtaining current state of resource: {}/{}",
                     resource.getKind(), resource.getMetadata().getName());
-                T r = resourceSupplier.get();
-                LOGGER.trace("Finished obtaining resource: {}/{}",
-                    resource.getKind(), resource.getMetadata().getName());
-                ready[0] = condition.predicate().test(r);
+                ready[0] = withProbePermit(() -> {
+                    T r = resourceSupplier.get();
+                    LOGGER.trace("Finished obtaining resource: {}/{}",
+                        resource.getKind(), resource.getMetadata().getName());
+                    return condition.evaluate(r);
+                });
                 return ready[0];
-            });
+            }));
         return ready[0];
     }
 
@@ -990,6 +1987,8 @@ public final class KubeResourceManager {
 
     /**
      * Deletes all stored resources.
+     * Resources are deleted in waves ordered by their dependencies (owners, namespaces, CRDs and referenced
+     * kinds), with async deletion all resources of one wave are deleted in parallel.
      *
      * @param async sets async or sequential deletion
      */
@@ -997,58 +1996,355 @@ public final class KubeResourceManager {
         LoggerUtils.logSeparator();
         String ctxId = this.contextId;
         String testName = getTestContext().getDisplayName();
-        Map<String, Stack<ResourceItem<?>>> byTest = STORED_RESOURCES.get(ctxId);
-        if (byTest == null || byTest.get(testName) == null || byTest.get(testName).isEmpty()) {
+        String testKey = getTestContext().getUniqueId();
+        Map<String, ResourceRegistry> byTest = STORED_RESOURCES.get(ctxId);
+        if (byTest == null || byTest.get(testKey) == null || byTest.get(testKey).isEmpty()) {
             LOGGER.info("No resources to delete for [{}]/{}", ctxId, testName);
             return;
         }
         LOGGER.info("Deleting all resources for [{}]/{}", ctxId, testName);
-        Stack<ResourceItem<?>> stack = byTest.get(testName);
-        AtomicInteger count = new AtomicInteger(stack.size());
-        List<CompletableFuture<Void>> waiters = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            ResourceItem<?> item = stack.pop();
-            CompletableFuture<Void> cf = CompletableFuture.runAsync(() -> {
-                OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-                try {
-                    item.throwableRunner().run();
-                } catch (Exception e) {
-                    throw new RuntimeException(e.getMessage(), e);
-                } finally {
-                    OPERATION_SEMAPHORE.get().release();
-                }
-            }, EXECUTOR);
-            if (async) {
-                waiters.add(cf);
+        List<ResourceItem<?>> items = byTest.get(testKey).drain();
+        deleteDrainedItems(ctxId, items, async);
+        // the map of the context is kept, removing it would race with tests of other threads pushing to it
+        byTest.remove(testKey);
+        LoggerUtils.logSeparator();
+    }
+
+    /**
+     * Deletes all stored resources of the current test in the background and returns immediately.
+     * The resources are detached from the test right away, so the next test can start while they are still
+     * being deleted, typically while their namespaces are finalizing. Creation of a resource with the same
+     * kind, namespace and name waits for its deferred deletion first, and {@link #awaitDeferredDeletions()}
+     * waits for all of them.
+     *
+     * @return future completed once all resources of the test are deleted
+     */
+    public CompletableFuture<Void> deleteResourcesDeferred() {
+        String ctxId = this.contextId;
+        String testName = getTestContext().getDisplayName();
+        String testKey = getTestContext().getUniqueId();
+        Map<String, ResourceRegistry> byTest = STORED_RESOURCES.get(ctxId);
+        if (byTest == null || byTest.get(testKey) == null || byTest.get(testKey).isEmpty()) {
+            LOGGER.info("No resources to delete for [{}]/{}", ctxId, testName);
+            return CompletableFuture.completedFuture(null);
+        }
+        List<ResourceItem<?>> items = byTest.get(testKey).drain();
+        byTest.remove(testKey);
+        LOGGER.info("Deferring deletion of {} resources for [{}]/{}", items.size(), ctxId, testName);
+
+        CompletableFuture<Void> teardown = new CompletableFuture<>();
+        List<DeferredKey> keys = items.stream()
+            .map(ResourceItem::resource)
+            .filter(Objects::nonNull)
+            .map(DeferredKey::of)
+            .toList();
+        keys.forEach(key -> deferredResources.put(key, teardown));
+        deferredTeardowns.add(teardown);
+        teardown.whenComplete((nothing, error) -> {
+            keys.forEach(key -> deferredResources.remove(key, teardown));
+            if (error == null) {
+                // only failures are kept for awaitDeferredDeletions to report
+                deferredTeardowns.remove(teardown);
             } else {
-                try {
-                    cf.get(KubeTestConstants.GLOBAL_TIMEOUT, TimeUnit.MILLISECONDS);
-                } catch (TimeoutException e) {
-                    LOGGER.error("Timeout waiting for deletion of resource {}/{}",
-                        item.resource().getMetadata().getNamespace(),
-                        item.resource().getMetadata().getName(),
-                        e
-                    );
-                    throw new RuntimeException(e.getMessage(), e);
-                } catch (InterruptedException | ExecutionException e) {
-                    LOGGER.error("Exception during deletion or wait for resource {}/{} to be deleted",
-                        item.resource().getMetadata().getNamespace(),
-                        item.resource().getMetadata().getName(),
-                        e
-                    );
-                    throw new RuntimeException(e.getMessage(), e);
+                LOGGER.error("Deferred deletion of resources for [{}]/{} failed", ctxId, testName, error);
+            }
+        });
+        executor.execute(() -> {
+            try {
+                deleteDrainedItems(ctxId, items, true);
+                teardown.complete(null);
+            } catch (RuntimeException e) {
+                teardown.completeExceptionally(e);
+            }
+        });
+        return teardown;
+    }
+
+    /**
+     * Waits until all deferred deletions of this context are finished.
+     *
+     * @throws CompletionException when some deferred deletion failed
+     */
+    public void awaitDeferredDeletions() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(deferredTeardowns);
+        if (pending.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Waiting for {} deferred deletion(s) in context [{}]", pending.size(), contextId);
+        deferredTeardowns.removeAll(pending);
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Waits for a deferred deletion of the resource, or of its namespace, before the resource is created again
+     *
+     * @param resource resource to be created
+     */
+    private void awaitDeferredDeletion(HasMetadata resource) {
+        if (deferredResources.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Void>> collisions = new ArrayList<>();
+        Optional.ofNullable(deferredResources.get(DeferredKey.of(resource))).ifPresent(collisions::add);
+        Optional.ofNullable(resource.getMetadata().getNamespace())
+            .map(namespace -> deferredResources.get(new DeferredKey("Namespace", "", namespace)))
+            .ifPresent(collisions::add);
+        for (CompletableFuture<Void> collision : collisions) {
+            if (!collision.isDone()) {
+                LoggerUtils.logResource("Waiting for deferred deletion before creating", resource);
+            }
+            // the failure is reported by the deferred teardown itself
+            collision.exceptionally(error -> null).join();
+        }
+    }
+
+    /**
+     * Resource deleted by a deferred teardown
+     *
+     * @param kind      kind
+     * @param namespace namespace, empty for cluster scoped resources
+     * @param name      name
+     */
+    private record DeferredKey(String kind, String namespace, String name) {
+        static DeferredKey of(HasMetadata resource) {
+            return new DeferredKey(resource.getKind(),
+                Objects.requireNonNullElse(resource.getMetadata().getNamespace(), ""),
+                resource.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Deletes resources drained from the stack of a test, in waves ordered by their dependencies
+     *
+     * @param ctxId ID of the context of the resources
+     * @param items drained resource items
+     * @param async sets async or sequential deletion
+     */
+    private void deleteDrainedItems(String ctxId, List<ResourceItem<?>> items, boolean async) {
+        // resources inside a managed namespace are removed by the namespace deletion itself
+        TeardownPlan plan = TeardownPlan.of(items,
+            item -> globalNamespaceCollapsingTeardown && DefaultDelete.isDefault(item)
+                && findResourceType(item.resource()) == null);
+        if (plan.collapsedCount() > 0) {
+            LOGGER.info("Skipping individual deletion of {} resources removed together with their namespace",
+                plan.collapsedCount());
+        }
+        Map<BulkKey, Long> bulkCounts = globalBulkTeardown ? countBulkItems(plan.itemsToDelete()) : Map.of();
+        for (List<ResourceItem<?>> wave : plan.waves()) {
+            // items of one wave do not depend on each other, the next wave starts once the whole wave is deleted
+            List<CompletableFuture<Void>> waiters = new ArrayList<>();
+            List<ResourceItem<?>> singles = new ArrayList<>(wave);
+            if (!bulkCounts.isEmpty()) {
+                Map<BulkKey, List<ResourceItem<?>>> groups = groupBulkItems(wave, bulkCounts);
+                groups.values().forEach(group -> group.forEach(singles::remove));
+                groups.forEach((key, group) -> {
+                    CompletableFuture<Void> cf = deleteCollection(key, group);
+                    if (async) {
+                        waiters.add(cf);
+                    } else {
+                        awaitDeletion(cf, String.format("%d %s resources in namespace %s", group.size(),
+                            key.kind(), key.namespace()));
+                    }
+                    group.forEach(item -> {
+                        plan.collapsedInto(item).forEach(collapsed -> {
+                            LoggerUtils.logResource("Deleted with namespace", collapsed.resource());
+                            GLOBAL_DELETE_CALLBACKS.forEach(cb -> cb.accept(collapsed.resource()));
+                        });
+                        GLOBAL_DELETE_CALLBACKS.forEach(cb -> cb.accept(item.resource()));
+                    });
+                });
+            }
+            for (ResourceItem<?> item : singles) {
+                CompletableFuture<Void> cf = deleteResourceItem(item);
+                if (async) {
+                    waiters.add(cf);
+                } else {
+                    awaitDeletion(cf, item.resource() == null ? "custom teardown action"
+                        : String.format("resource %s/%s", item.resource().getMetadata().getNamespace(),
+                            item.resource().getMetadata().getName()));
                 }
+                plan.collapsedInto(item).forEach(collapsed -> {
+                    LoggerUtils.logResource("Deleted with namespace", collapsed.resource());
+                    GLOBAL_DELETE_CALLBACKS.forEach(cb -> cb.accept(collapsed.resource()));
+                });
+                GLOBAL_DELETE_CALLBACKS.forEach(cb -> Optional.ofNullable(item.resource()).ifPresent(cb));
             }
-            count.decrementAndGet();
-            GLOBAL_DELETE_CALLBACKS.forEach(cb -> Optional.ofNullable(item.resource()).ifPresent(cb));
+            handleAsyncDeletion(waiters);
         }
-        handleAsyncDeletion(waiters);
 
-        byTest.remove(testName);
-        if (byTest.isEmpty()) {
-            STORED_RESOURCES.remove(ctxId);
+        ResourceJournal journal = globalJournal;
+        if (journal != null) {
+            items.stream()
+                .filter(item -> item.resource() != null)
+                .forEach(item -> journal.deleted(ctxId, item.resource()));
+        }
+    }
+
+    /**
+     * Waits for a sequential deletion within the global timeout
+     *
+     * @param deletion future of the deletion
+     * @param deleted  description of the deleted resources for the log
+     */
+    private static void awaitDeletion(CompletableFuture<Void> deletion, String deleted) {
+        try {
+            deletion.get(KubeTestConstants.GLOBAL_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.error("Timeout waiting for deletion of {}", deleted, e);
+            throw new RuntimeException(e.getMessage(), e);
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.error("Exception during deletion or wait for {} to be deleted", deleted, e);
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Kind and namespace of resources deleted by one label selector delete
+     *
+     * @param type       class of the resources
+     * @param apiVersion api version of the resources
+     * @param kind       kind of the resources
+     * @param namespace  namespace of the resources, null for cluster scoped resources
+     */
+    private record BulkKey(Class<? extends HasMetadata> type, String apiVersion, String kind, String namespace) {
+        static BulkKey of(HasMetadata resource) {
+            return new BulkKey(resource.getClass(), resource.getApiVersion(), resource.getKind(),
+                resource.getMetadata().getNamespace());
+        }
+    }
+
+    /**
+     * Returns a copy of the resource with run ID and test ID labels
+     *
+     * @param resource resource to label
+     * @param <T>      type of the resource
+     * @return labelled copy of the resource
+     */
+    private <T extends HasMetadata> T labelled(T resource) {
+        T copy = kubeClient().getClient().getKubernetesSerialization().clone(resource);
+        Map<String, String> labels = new HashMap<>(
+            Objects.requireNonNullElse(copy.getMetadata().getLabels(), Map.of()));
+        labels.put(KubeTestConstants.RUN_ID_LABEL, globalRunId);
+        labels.put(KubeTestConstants.TEST_ID_LABEL, getTestId());
+        copy.getMetadata().setLabels(labels);
+        return copy;
+    }
+
+    /**
+     * Returns whether the item can be deleted by a label selector delete of the current test
+     *
+     * @param item    stored item
+     * @param testId  ID of the current test
+     * @return true if the item is labelled by this run and test and has no custom deletion
+     */
+    private boolean isBulkDeletable(ResourceItem<?> item, String testId) {
+        if (!DefaultDelete.isDefault(item)) {
+            return false;
+        }
+        HasMetadata resource = item.resource();
+        if (findResourceType(resource) != null || resource.getMetadata().getLabels() == null) {
+            return false;
+        }
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return globalRunId.equals(labels.get(KubeTestConstants.RUN_ID_LABEL))
+            && testId.equals(labels.get(KubeTestConstants.TEST_ID_LABEL));
+    }
+
+    private Map<BulkKey, Long> countBulkItems(List<ResourceItem<?>> items) {
+        String testId = getTestId();
+        return items.stream()
+            .filter(item -> isBulkDeletable(item, testId))
+            .collect(Collectors.groupingBy(item -> BulkKey.of(item.resource()), Collectors.counting()));
+    }
+
+    /**
+     * Groups items of a wave which can be deleted by one label selector delete. A group is used only when
+     * it holds all labelled items of its kind and namespace, so the selector does not delete items of later
+     * waves, and only when it has more than one item.
+     *
+     * @param wave       items of one teardown wave
+     * @param bulkCounts number of labelled items per kind and namespace in the whole teardown
+     * @return groups of items
+     */
+    private Map<BulkKey, List<ResourceItem<?>>> groupBulkItems(List<ResourceItem<?>> wave,
+                                                                Map<BulkKey, Long> bulkCounts) {
+        String testId = getTestId();
+        Map<BulkKey, List<ResourceItem<?>>> groups = wave.stream()
+            .filter(item -> isBulkDeletable(item, testId))
+            .collect(Collectors.groupingBy(item -> BulkKey.of(item.resource()), LinkedHashMap::new,
+                Collectors.toList()));
+        groups.entrySet().removeIf(group -> group.getValue().size() < 2
+            || group.getValue().size() != bulkCounts.get(group.getKey()));
+        return groups;
+    }
+
+    /**
+     * Deletes all resources of the kind and namespace labelled by the current run and test, and waits
+     * until a list by the same selector holds none of the stored resources. Objects which only copied
+     * the labels, f.e. children created by an operator, do not hold the wait.
+     *
+     * @param key   kind and namespace of the resources
+     * @param group stored items deleted by the selector
+     * @return future completed once all resources are gone
+     */
+    private CompletableFuture<Void> deleteCollection(BulkKey key, List<ResourceItem<?>> group) {
+        String testId = getTestId();
+        Set<String> names = group.stream().map(item -> item.resource().getMetadata().getName())
+            .collect(Collectors.toSet());
+        return CompletableFuture.runAsync(() -> {
+            LOGGER.info("Deleting {} {} resources in namespace {} by label selector",
+                group.size(), key.kind(), key.namespace());
+            FilterWatchListDeletable<? extends HasMetadata, ? extends KubernetesResourceList<?>, ?> selected =
+                selectBulkResources(key, testId);
+            withOperationPermit(selected::delete);
+            WaitTelemetry.withKind(key.kind(), () -> Wait.until(String.format(
+                    "deletion of %s %s resources in namespace %s", group.size(), key.kind(), key.namespace()),
+                KubeTestConstants.POLL_STRATEGY_FOR_RESOURCE_DELETION, KubeTestConstants.GLOBAL_TIMEOUT,
+                () -> withProbePermit(() -> selected.list().getItems().stream()
+                    .noneMatch(resource -> names.contains(resource.getMetadata().getName())))));
+            group.forEach(item -> LoggerUtils.logResource("Deleted", item.resource()));
+        }, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private FilterWatchListDeletable<? extends HasMetadata, ? extends KubernetesResourceList<?>, ?>
+        selectBulkResources(BulkKey key, String testId) {
+        KubernetesClient client = kubeClient().getClient();
+        if (key.type() == GenericKubernetesResource.class) {
+            return selectBulkResources(client.genericKubernetesResources(key.apiVersion(), key.kind()),
+                key.namespace(), testId);
+        }
+        return selectBulkResources(client.resources((Class<HasMetadata>) key.type()), key.namespace(), testId);
+    }
+
+    private <T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>>
+        FilterWatchListDeletable<T, L, R> selectBulkResources(MixedOperation<T, L, R> resources, String namespace,
+                                                              String testId) {
+        NonNamespaceOperation<T, L, R> scoped = namespace == null ? resources : resources.inNamespace(namespace);
+        return scoped
+            .withLabel(KubeTestConstants.RUN_ID_LABEL, globalRunId)
+            .withLabel(KubeTestConstants.TEST_ID_LABEL, testId);
+    }
+
+    /**
+     * Runs the delete action of a stored item asynchronously.
+     *
+     * @param item stored item
+     * @return future completed once the item is deleted
+     */
+    private CompletableFuture<Void> deleteResourceItem(ResourceItem<?> item) {
+        // items tracking a resource delete it through deleteResource, which takes the operation permit only
+        // for the delete call itself. Custom runners run without a permit, as a runner calling back into
+        // the manager would wait for a second permit and deadlock once the limit is reached.
+        return CompletableFuture.runAsync(() -> runResourceItem(item), executor);
+    }
+
+    private static void runResourceItem(ResourceItem<?> item) {
+        try {
+            item.throwableRunner().run();
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
         }
-        LoggerUtils.logSeparator();
     }
 
     /**
@@ -1089,6 +2385,32 @@ public final class KubeResourceManager {
         return null;
     }
 
+    /**
+     * Runs a mutating API call while holding a permit of the operation limiter.
+     *
+     * @param action mutating call
+     */
+    private void withOperationPermit(Runnable action) {
+        operationLimiter.run(action);
+    }
+
+    /**
+     * Runs a single probe of a passive wait while holding a permit of the probe semaphore.
+     *
+     * @param probe probe to run
+     * @param <R>   result of the probe
+     * @return result of the probe
+     */
+    private <R> R withProbePermit(Supplier<R> probe) {
+        Semaphore semaphore = probeSemaphore.get();
+        semaphore.acquireUninterruptibly();
+        try {
+            return probe.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
     private <T extends HasMetadata> boolean isResourceWithReadiness(T resource) {
         return resource instanceof Deployment ||
             resource instanceof io.fabric8.kubernetes.api.model.extensions.Deployment ||
@@ -1126,22 +2448,9 @@ public final class KubeResourceManager {
 
     /* test */ <T extends HasMetadata> void decideDeleteWaitAsync(
         List<CompletableFuture<Void>> waiters, boolean async, T res) {
-        CompletableFuture<Void> cf;
-        if (async) {
-            cf = CompletableFuture.runAsync(() -> {
-                OPERATION_SEMAPHORE.get().acquireUninterruptibly();
-                try {
-                    assertTrue(waitResourceCondition(res, ResourceCondition.deletion()),
-                        "Timed out deleting " + res.getKind() + "/" + res.getMetadata().getName());
-                } finally {
-                    OPERATION_SEMAPHORE.get().release();
-                }
-            }, EXECUTOR);
-        } else {
-            cf = CompletableFuture.runAsync(() ->
-                assertTrue(waitResourceCondition(res, ResourceCondition.deletion()),
-                    "Timed out deleting " + res.getKind() + "/" + res.getMetadata().getName()), EXECUTOR);
-        }
+        CompletableFuture<Void> cf = CompletableFuture.runAsync(() ->
+            assertTrue(waitResourceCondition(res, ResourceCondition.deletion()),
+                "Timed out deleting " + res.getKind() + "/" + res.getMetadata().getName()), executor);
         if (async) {
             waiters.add(cf);
         } else {
@@ -0,0 +1,41 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exception aggregating failures of an operation fanned out to several cluster contexts.
+ * Every failure is available by its context and is attached as a suppressed exception as well.
+ */
+public final class MultiContextException extends RuntimeException {
+
+    private final Map<String, Throwable> failures;
+
+    /**
+     * Constructs a new MultiContextException
+     *
+     * @param failures failures of the operation by cluster context
+     */
+    public MultiContextException(Map<String, Throwable> failures) {
+        super("Operation failed in contexts " + failures.keySet() + ": " + failures.entrySet().stream()
+            .map(failure -> failure.getKey() + " - " + failure.getValue().getMessage())
+            .reduce((first, second) -> first + "; " + second)
+            .orElse(""));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns failures of the operation by cluster context
+     *
+     * @return failures by context
+     */
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.skodjob.kubetest4j.utils.PodUtils;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Watches Pods and core/v1 Events of namespaces with running resource waits and detects failures the waited
+ * resources never recover from on their own.
+ * <p>
+ * A Pod is failing when one of its containers waits in {@code ImagePullBackOff}, {@code CrashLoopBackOff}
+ * or {@code InvalidImageName}, or when it has {@code FailedScheduling} events and is still not scheduled
+ * after the scheduling grace period, as a Pod is often unschedulable for a moment (f.e. until its volume is
+ * bound). A failing Pod aborts the wait of every resource it is controlled by, directly or through
+ * other owners like Pod &lt;- ReplicaSet &lt;- Deployment.
+ * <p>
+ * Only waits for workloads, see {@link #isWorkload(HasMetadata)}, are watched. One pair of informers is running
+ * per (client, namespace) for as long as at least one wait uses it.
+ */
+final class PodFailureWatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodFailureWatcher.class);
+    private static final String FAILED_SCHEDULING = "FailedScheduling";
+    // Pod <- ReplicaSet <- Deployment <- custom resource of an operator
+    private static final int MAX_OWNER_DEPTH = 4;
+    private static final OwnerReference NO_OWNER = new OwnerReference();
+    private static final long SYNC_TIMEOUT_MS = 5_000;
+    // kinds which run Pods, waits for other kinds do not start the informers
+    private static final Set<String> WORKLOAD_KINDS = Set.of("Pod", "Deployment", "StatefulSet", "DaemonSet",
+        "ReplicaSet", "ReplicationController", "Job", "CronJob", "DeploymentConfig");
+
+    private final long schedulingGraceMs;
+    private final Map<WatchKey, WatchEntry> watches = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies one watched namespace
+     *
+     * @param client    client the informers are bound to
+     * @param namespace watched namespace
+     */
+    private record WatchKey(KubernetesClient client, String namespace) {
+    }
+
+    /**
+     * Creates the watcher
+     *
+     * @param schedulingGraceMs how long a Pod with {@code FailedScheduling} events may stay unscheduled
+     *                          before it is considered failing
+     */
+    PodFailureWatcher(long schedulingGraceMs) {
+        this.schedulingGraceMs = schedulingGraceMs;
+    }
+
+    /**
+     * Returns whether the resource is a workload running Pods, so its wait can be aborted by a failing Pod
+     *
+     * @param resource waited resource
+     * @return true for workload kinds
+     */
+    static boolean isWorkload(HasMetadata resource) {
+        return WORKLOAD_KINDS.contains(resource.getKind());
+    }
+
+    /**
+     * Starts watching the namespace, or joins the running watch of the namespace.
+     *
+     * @param client    client used for starting the informers
+     * @param namespace namespace to watch
+     * @return watch of the namespace, closing it stops the informers once no other wait uses them
+     */
+    Watch watch(KubernetesClient client, String namespace) {
+        WatchKey key = new WatchKey(client, namespace);
+        WatchEntry entry = watches.compute(key, (k, existing) -> {
+            WatchEntry current = existing != null ? existing : new WatchEntry(k);
+            current.references++;
+            return current;
+        });
+        try {
+            // failures which are already there are seen by the first evaluation of the condition
+            entry.synced.get(SYNC_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Pod failure watch in namespace {} is not synced: {}", namespace, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Watch(key, entry);
+    }
+
+    /**
+     * Returns number of watched namespaces
+     *
+     * @return number of watches
+     */
+    int activeWatches() {
+        return watches.size();
+    }
+
+    private void release(WatchKey key, WatchEntry entry) {
+        watches.computeIfPresent(key, (k, current) -> {
+            if (current != entry || --current.references > 0) {
+                return current;
+            }
+            LOGGER.debug("Stopping Pod failure watch in namespace {}", k.namespace());
+            current.pods.stop();
+            current.events.stop();
+            return null;
+        });
+    }
+
+    private static OwnerReference controllerOf(ObjectMeta metadata) {
+        if (metadata == null || metadata.getOwnerReferences() == null) {
+            return null;
+        }
+        return metadata.getOwnerReferences().stream()
+            .filter(ref -> Boolean.TRUE.equals(ref.getController()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Watch of one namespace used by a single wait
+     */
+    final class Watch implements AutoCloseable {
+        private final WatchKey key;
+        private final WatchEntry entry;
+
+        private Watch(WatchKey key, WatchEntry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        /**
+         * Checks Pods controlled by the resource. Owners of the Pods which were not seen yet are read with a GET,
+         * so the caller has to hold a probe permit, as every evaluation of a wait condition does.
+         *
+         * @param resource waited resource
+         * @throws WaitAbortedException when a Pod controlled by the resource is failing
+         */
+        void checkFailure(HasMetadata resource) {
+            for (Pod pod : entry.pods.getStore().list()) {
+                Optional<String> failure = PodUtils.getTerminalFailure(pod).or(() -> entry.schedulingFailure(pod));
+                if (failure.isPresent() && entry.isControlledBy(pod, resource)) {
+                    throw new WaitAbortedException(String.format("%s/%s cannot become ready: %s",
+                        resource.getKind(), resource.getMetadata().getName(), failure.get()));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            release(key, entry);
+        }
+    }
+
+    /**
+     * Running informers of one namespace
+     */
+    private final class WatchEntry {
+        private final WatchKey key;
+        private final SharedIndexInformer<Pod> pods;
+        private final SharedIndexInformer<Event> events;
+        private final CompletableFuture<Void> synced;
+        // Pod name -> time the Pod was first seen unschedulable
+        private final Map<String, Long> unschedulableSince = new ConcurrentHashMap<>();
+        // kind/name of an owner -> controller of the owner, only owners which were found are cached
+        private final Map<String, OwnerReference> owners = new ConcurrentHashMap<>();
+        // guarded by ConcurrentHashMap#compute in watch/release
+        private int references;
+
+        private WatchEntry(WatchKey key) {
+            LOGGER.debug("Starting Pod failure watch in namespace {}", key.namespace());
+            this.key = key;
+            this.pods = key.client().pods().inNamespace(key.namespace()).runnableInformer(0);
+            this.events = key.client().v1().events().inNamespace(key.namespace()).runnableInformer(0);
+            // a watch which cannot be started (f.e. missing RBAC) never aborts a wait, so it is not retried
+            this.pods.exceptionHandler((isStarted, t) -> isStarted);
+            this.events.exceptionHandler((isStarted, t) -> isStarted);
+            this.synced = CompletableFuture.allOf(this.pods.start().toCompletableFuture(),
+                this.events.start().toCompletableFuture());
+        }
+
+        private Optional<String> schedulingFailure(Pod pod) {
+            String name = pod.getMetadata().getName();
+            if (pod.getSpec() != null && pod.getSpec().getNodeName() != null) {
+                unschedulableSince.remove(name);
+                return Optional.empty();
+            }
+            Optional<Event> event = events.getStore().list().stream()
+                .filter(e -> FAILED_SCHEDULING.equals(e.getReason()) && e.getInvolvedObject() != null
+                    && "Pod".equals(e.getInvolvedObject().getKind())
+                    && name.equals(e.getInvolvedObject().getName())
+                    // skip events of a deleted Pod with the same name
+                    && (e.getInvolvedObject().getUid() == null
+                    || e.getInvolvedObject().getUid().equals(pod.getMetadata().getUid())))
+                .findFirst();
+            if (event.isEmpty()) {
+                return Optional.empty();
+            }
+            long since = unschedulableSince.computeIfAbsent(name, n -> System.currentTimeMillis());
+            if (System.currentTimeMillis() - since < schedulingGraceMs) {
+                return Optional.empty();
+            }
+            return Optional.of(String.format("Pod %s/%s is not scheduled: %s", key.namespace(), name,
+                event.get().getMessage()));
+        }
+
+        private boolean isControlledBy(Pod pod, HasMetadata resource) {
+            if ("Pod".equals(resource.getKind())) {
+                return pod.getMetadata().getName().equals(resource.getMetadata().getName());
+            }
+            OwnerReference ref = controllerOf(pod.getMetadata());
+            for (int depth = 0; ref != null && depth < MAX_OWNER_DEPTH; depth++) {
+                if (ref.getKind().equals(resource.getKind())
+                    && ref.getName().equals(resource.getMetadata().getName())) {
+                    return true;
+                }
+                OwnerReference owner = owners.get(ownerKey(ref));
+                if (owner == null) {
+                    owner = controllerOfOwner(ref);
+                }
+                ref = owner == NO_OWNER ? null : owner;
+            }
+            return false;
+        }
+
+        private OwnerReference controllerOfOwner(OwnerReference ref) {
+            HasMetadata owner;
+            try {
+                owner = key.client().genericKubernetesResources(ref.getApiVersion(), ref.getKind())
+                    .inNamespace(key.namespace()).withName(ref.getName()).get();
+            } catch (KubernetesClientException e) {
+                // f.e. throttling, the owner is looked up again on the next evaluation
+                LOGGER.debug("Cannot get owner {}/{}: {}", ref.getKind(), ref.getName(), e.getMessage());
+                return NO_OWNER;
+            }
+            if (owner == null) {
+                // the owner may not be created yet
+                return NO_OWNER;
+            }
+            OwnerReference controller = controllerOf(owner.getMetadata());
+            OwnerReference result = controller == null ? NO_OWNER : controller;
+            owners.put(ownerKey(ref), result);
+            return result;
+        }
+
+        private static String ownerKey(OwnerReference ref) {
+            return ref.getKind() + "/" + ref.getName();
+        }
+    }
+}
@@ -9,25 +9,93 @@ import java.util.function.Predicate;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.skodjob.kubetest4j.interfaces.ResourceType;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
 
 /**
  * Represents a condition that can be applied to Kubernetes resources.
  *
- * @param predicate     predicate function
- * @param conditionName conditionName
- * @param <T>           Type of Kubernetes resource.
+ * @param predicate      predicate function
+ * @param conditionName  conditionName
+ * @param abortPredicate   predicate telling that the condition can never be fulfilled, the wait then fails
+ *                         right away instead of waiting for the timeout
+ * @param waitsForDeletion whether the condition is fulfilled by deletion of the resource, such waits are not
+ *                         aborted on failures of the Pods of the resource
+ * @param <T>              Type of Kubernetes resource.
  */
-public record ResourceCondition<T extends HasMetadata>(Predicate<T> predicate, String conditionName) {
+public record ResourceCondition<T extends HasMetadata>(Predicate<T> predicate, String conditionName,
+                                                       Predicate<T> abortPredicate, boolean waitsForDeletion) {
 
     /**
-     * Creates a ResourceCondition representing readiness of a resource of the given type.
+     * Creates a ResourceCondition, {@code null} abort predicate never aborts the wait.
+     *
+     * @param predicate        predicate function
+     * @param conditionName    conditionName
+     * @param abortPredicate   predicate telling that the condition can never be fulfilled
+     * @param waitsForDeletion whether the condition is fulfilled by deletion of the resource
+     */
+    public ResourceCondition {
+        abortPredicate = Objects.requireNonNullElse(abortPredicate, resource -> false);
+    }
+
+    /**
+     * Creates a ResourceCondition which does not wait for deletion, {@code null} abort predicate never aborts
+     * the wait.
+     *
+     * @param predicate      predicate function
+     * @param conditionName  conditionName
+     * @param abortPredicate predicate telling that the condition can never be fulfilled
+     */
+    public ResourceCondition(Predicate<T> predicate, String conditionName, Predicate<T> abortPredicate) {
+        this(predicate, conditionName, abortPredicate, false);
+    }
+
+    /**
+     * Creates a ResourceCondition without abort predicate.
+     *
+     * @param predicate     predicate function
+     * @param conditionName conditionName
+     */
+    public ResourceCondition(Predicate<T> predicate, String conditionName) {
+        this(predicate, conditionName, null);
+    }
+
+    /**
+     * Returns a copy of the condition aborting the wait also when {@code abort} matches the resource.
+     *
+     * @param abort predicate telling that the condition can never be fulfilled
+     * @return the ResourceCondition with the additional abort predicate
+     */
+    public ResourceCondition<T> withAbortPredicate(Predicate<T> abort) {
+        return new ResourceCondition<>(predicate, conditionName, abortPredicate.or(abort), waitsForDeletion);
+    }
+
+    /**
+     * Evaluates the condition for the current state of the resource.
+     *
+     * @param resource current state of the resource, {@code null} when the resource does not exist
+     * @return true if the condition is fulfilled
+     * @throws WaitAbortedException when the abort predicate matches the resource
+     */
+    public boolean evaluate(T resource) {
+        if (resource != null && abortPredicate.test(resource)) {
+            throw new WaitAbortedException(String.format("Condition %s can never be fulfilled for resource %s/%s",
+                conditionName, resource.getKind(), resource.getMetadata().getName()));
+        }
+        return predicate.test(resource);
+    }
+
+    /**
+     * Creates a ResourceCondition representing readiness of a resource of the given type. The condition is
+     * evaluated on the cached state of the resource through {@link ResourceType#isReadyState(HasMetadata)}, so
+     * types which only implement {@link ResourceType#isReady(HasMetadata)} by fetching the resource still do one
+     * GET per evaluation.
      *
      * @param <T>  Type of Kubernetes resource.
      * @param type The resource type.
      * @return The ResourceCondition representing readiness.
      */
     public static <T extends HasMetadata> ResourceCondition<T> readiness(ResourceType<T> type) {
-        return new ResourceCondition<>(type::isReady, "readiness");
+        return new ResourceCondition<>(type::isReadyState, "readiness");
     }
 
     /**
@@ -37,6 +105,6 @@ public record ResourceCondition<T extends HasMetadata>(Predicate<T> predicate, S
      * @return The ResourceCondition representing deletion.
      */
     public static <T extends HasMetadata> ResourceCondition<T> deletion() {
-        return new ResourceCondition<>(Objects::isNull, "deletion");
+        return new ResourceCondition<>(Objects::isNull, "deletion", null, true);
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Handle of resources created without blocking the caller.
+ * <p>
+ * Every resource has its own future, completed with the resource once it is created and ready. Independent
+ * setup steps can be started one after another and joined at the end, f.e.
+ * <pre>{@code
+ * ResourceFutures<Deployment> operator = manager.createResourceAsync(operatorDeployment);
+ * ResourceFutures<Namespace> namespaces = manager.createResourceAsync(ns1, ns2, ns3);
+ * operator.thenCreate(() -> manager.createResourceAsync(customResource)).join();
+ * namespaces.join();
+ * }</pre>
+ * Callbacks passed to {@link #then} and {@link #thenCreate} run on the executor of the resource manager
+ * with the test context of the thread which created the handle, so they can create further resources.
+ *
+ * @param <T> type of the resources
+ */
+public final class ResourceFutures<T extends HasMetadata> {
+
+    private final List<CompletableFuture<T>> futures;
+    private final Executor executor;
+
+    /**
+     * Creates the handle
+     *
+     * @param futures  futures of single resources
+     * @param executor executor of follow-up steps
+     */
+    ResourceFutures(List<CompletableFuture<T>> futures, Executor executor) {
+        this.futures = Collections.unmodifiableList(futures);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns futures of single resources in the order the resources were passed
+     *
+     * @return futures of resources
+     */
+    public List<CompletableFuture<T>> futures() {
+        return futures;
+    }
+
+    /**
+     * Returns future of a single resource
+     *
+     * @param index index of the resource
+     * @return future of the resource
+     */
+    public CompletableFuture<T> get(int index) {
+        return futures.get(index);
+    }
+
+    /**
+     * Returns future completed once all resources are ready. It completes exceptionally as soon as any
+     * resource fails.
+     *
+     * @return future with all ready resources
+     */
+    public CompletableFuture<List<T>> allReady() {
+        CompletableFuture<List<T>> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(nothing -> futures.stream().map(CompletableFuture::join).toList());
+        // fail fast instead of waiting for the remaining resources
+        futures.forEach(future -> future.whenComplete((resource, error) -> {
+            if (error != null) {
+                all.completeExceptionally(error);
+            }
+        }));
+        return all;
+    }
+
+    /**
+     * Returns future completed with {@code true} as soon as any resource fails, or with {@code false}
+     * once all resources are ready
+     *
+     * @return future telling whether any resource failed
+     */
+    public CompletableFuture<Boolean> anyFailed() {
+        return allReady().handle((resources, error) -> error != null);
+    }
+
+    /**
+     * Runs the next step once all resources are ready
+     *
+     * @param next next step, f.e. creation of resources which depend on these ones
+     * @param <R>  result of the next step
+     * @return future with the result of the next step
+     */
+    public <R> CompletableFuture<R> then(Function<List<T>, R> next) {
+        return allReady().thenApplyAsync(next, executor);
+    }
+
+    /**
+     * Creates next resources once all resources are ready
+     *
+     * @param next creation of next resources
+     * @param <U>  type of the next resources
+     * @return future completed once the next resources are ready
+     */
+    public <U extends HasMetadata> CompletableFuture<List<U>> thenCreate(Supplier<ResourceFutures<U>> next) {
+        return then(resources -> next.get()).thenCompose(ResourceFutures::allReady);
+    }
+
+    /**
+     * Waits until all resources are ready
+     *
+     * @return ready resources
+     * @throws RuntimeException when any resource fails
+     */
+    public List<T> join() {
+        try {
+            return allReady().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Informable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Shared informer cache used to evaluate {@link ResourceCondition} predicates on watch events.
+ * <p>
+ * One informer is running per (client, apiVersion, kind, namespace) for as long as at least one waiter
+ * is registered on it, and for the idle timeout afterwards, so consecutive synchronous waits on the same kind
+ * reuse the running informer instead of paying a LIST and a WATCH each. Each waiter is evaluated against the
+ * cached object right after registration and then again on every event the informer delivers for the waited
+ * resource, so the wait completes as soon as the condition flips and the API server sees a single WATCH instead
+ * of one polling GET per waiter.
+ */
+final class ResourceInformerCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceInformerCache.class);
+
+    private final Executor executor;
+    private final long resyncPeriodMs;
+    private final long idleTimeoutMs;
+    private final Map<InformerKey, InformerEntry> informers = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies one shared informer
+     *
+     * @param client     client the informer is bound to
+     * @param apiVersion api version of the watched kind
+     * @param kind       watched kind
+     * @param namespace  watched namespace, {@code null} for cluster scoped or client default namespace
+     */
+    private record InformerKey(KubernetesClient client, String apiVersion, String kind, String namespace) {
+    }
+
+    /**
+     * Creates the cache
+     *
+     * @param executor       executor used for predicate evaluation, so that informer event threads never block
+     * @param resyncPeriodMs resync period of informers, every resync re-evaluates waiters against cached state
+     * @param idleTimeoutMs  how long an informer without waiters keeps running, 0 stops it right away
+     */
+    ResourceInformerCache(Executor executor, long resyncPeriodMs, long idleTimeoutMs) {
+        this.executor = executor;
+        this.resyncPeriodMs = resyncPeriodMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Waits until the {@code predicate} is fulfilled for the current state of {@code resource}.
+     * The predicate is called with {@code null} when the resource does not exist.
+     *
+     * @param client    client used for starting the informer
+     * @param resource  resource to wait for
+     * @param predicate condition which should be fulfilled
+     * @param timeoutMs timeout in milliseconds
+     * @param <T>       type of the resource
+     * @return {@code true} if the condition was fulfilled, {@code false} if the timeout was reached
+     * @throws KubernetesClientException when the informer cannot be started (f.e. missing list/watch RBAC)
+     * @throws WaitAbortedException      when the predicate aborts the wait
+     */
+    <T extends HasMetadata> boolean await(KubernetesClient client, T resource, Predicate<T> predicate,
+                                          long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        InformerKey key = new InformerKey(client, resource.getApiVersion(), resource.getKind(),
+            resource.getMetadata().getNamespace());
+        InformerEntry entry = acquire(key, resource);
+        Waiter<T> waiter = new Waiter<>(resource.getMetadata().getNamespace(), resource.getMetadata().getName(),
+            predicate);
+        try {
+            entry.awaitSync(Math.max(deadline - System.currentTimeMillis(), 0));
+            entry.waiters.add(waiter);
+            entry.evaluate(waiter);
+            waiter.result.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof WaitAbortedException aborted) {
+                throw aborted;
+            }
+            throw new KubernetesClientException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            entry.waiters.remove(waiter);
+            release(key, entry);
+        }
+    }
+
+    /**
+     * Returns number of currently running informers
+     *
+     * @return number of informers
+     */
+    int activeInformers() {
+        return informers.size();
+    }
+
+    /**
+     * Returns number of informers with an open watch
+     *
+     * @return number of watching informers
+     */
+    int watchingInformers() {
+        return (int) informers.values().stream().filter(entry -> entry.informer.isWatching()).count();
+    }
+
+    private InformerEntry acquire(InformerKey key, HasMetadata resource) {
+        return informers.compute(key, (k, existing) -> {
+            InformerEntry entry = existing != null && !existing.failed() ? existing : new InformerEntry(k, resource);
+            if (existing != null && existing != entry) {
+                existing.informer.stop();
+            }
+            entry.references++;
+            entry.generation++;
+            return entry;
+        });
+    }
+
+    private void release(InformerKey key, InformerEntry entry) {
+        informers.computeIfPresent(key, (k, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            if (--current.references > 0) {
+                return current;
+            }
+            if (idleTimeoutMs > 0 && !current.failed()) {
+                long generation = current.generation;
+                CompletableFuture.delayedExecutor(idleTimeoutMs, TimeUnit.MILLISECONDS)
+                    .execute(() -> stopIdle(k, current, generation));
+                return current;
+            }
+            LOGGER.debug("Stopping informer for {}/{} in namespace {}", k.apiVersion(), k.kind(), k.namespace());
+            current.informer.stop();
+            return null;
+        });
+        if (entry.failed()) {
+            entry.informer.stop();
+        }
+    }
+
+    /**
+     * Stops the informer unless a waiter acquired it since it became idle
+     *
+     * @param key        key of the informer
+     * @param entry      the idle informer
+     * @param generation generation of the informer when it became idle
+     */
+    private void stopIdle(InformerKey key, InformerEntry entry, long generation) {
+        informers.computeIfPresent(key, (k, current) -> {
+            if (current != entry || current.references > 0 || current.generation != generation) {
+                return current;
+            }
+            LOGGER.debug("Stopping idle informer for {}/{} in namespace {}", k.apiVersion(), k.kind(),
+                k.namespace());
+            current.informer.stop();
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R extends HasMetadata> MixedOperation<R, ?, ?> operation(KubernetesClient client,
+                                                                            InformerKey key,
+                                                                            HasMetadata resource) {
+        if (resource instanceof GenericKubernetesResource) {
+            return (MixedOperation<R, ?, ?>) client.genericKubernetesResources(key.apiVersion(), key.kind());
+        }
+        return client.resources((Class<R>) resource.getClass());
+    }
+
+    /**
+     * Registered waiter
+     *
+     * @param <T> type of the resource
+     */
+    private static final class Waiter<T extends HasMetadata> {
+        private final String namespace;
+        private final String name;
+        private final Predicate<T> predicate;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Waiter(String namespace, String name, Predicate<T> predicate) {
+            this.namespace = namespace;
+            this.name = name;
+            this.predicate = predicate;
+        }
+
+        private boolean matches(HasMetadata obj) {
+            return name.equals(obj.getMetadata().getName())
+                && (namespace == null || namespace.equals(obj.getMetadata().getNamespace()));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void test(HasMetadata current) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                if (predicate.test((T) current)) {
+                    result.complete(null);
+                }
+            } catch (WaitAbortedException e) {
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                // same as in Wait.until - an exception in the predicate means "not yet"
+                LOGGER.trace("Condition check for {}/{} failed: {}", namespace, name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Running informer together with its waiters
+     */
+    private final class InformerEntry implements ResourceEventHandler<HasMetadata> {
+        private final SharedIndexInformer<HasMetadata> informer;
+        private final CompletableFuture<Void> synced;
+        private final Set<Waiter<?>> waiters = ConcurrentHashMap.newKeySet();
+        // guarded by ConcurrentHashMap#compute in acquire/release
+        private int references;
+        // number of acquisitions, an idle informer is only stopped when it was not acquired again meanwhile
+        private long generation;
+
+        private InformerEntry(InformerKey key, HasMetadata resource) {
+            LOGGER.debug("Starting informer for {}/{} in namespace {}", key.apiVersion(), key.kind(), key.namespace());
+            MixedOperation<HasMetadata, ?, ?> operation = operation(key.client(), key, resource);
+            Informable<HasMetadata> informable = key.namespace() == null
+                ? operation : operation.inNamespace(key.namespace());
+            this.informer = informable.runnableInformer(resyncPeriodMs);
+            // do not retry a failed initial list, waiters fall back to polling instead
+            this.informer.exceptionHandler((isStarted, t) -> isStarted);
+            this.informer.addEventHandler(this);
+            this.synced = informer.start().toCompletableFuture();
+        }
+
+        private boolean failed() {
+            return synced.isCompletedExceptionally();
+        }
+
+        private void awaitSync(long timeoutMs) throws ExecutionException, InterruptedException, TimeoutException {
+            synced.get(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        private void evaluate(Waiter<?> waiter) {
+            HasMetadata current = waiter.namespace != null
+                ? informer.getStore().getByKey(Cache.namespaceKeyFunc(waiter.namespace, waiter.name))
+                : informer.getStore().list().stream().filter(waiter::matches).findFirst().orElse(null);
+            executor.execute(() -> waiter.test(current));
+        }
+
+        private void dispatch(HasMetadata obj, boolean deleted) {
+            for (Waiter<?> waiter : waiters) {
+                if (waiter.matches(obj)) {
+                    executor.execute(() -> waiter.test(deleted ? null : obj));
+                }
+            }
+        }
+
+        @Override
+        public void onAdd(HasMetadata obj) {
+            dispatch(obj, false);
+        }
+
+        @Override
+        public void onUpdate(HasMetadata oldObj, HasMetadata newObj) {
+            dispatch(newObj, false);
+        }
+
+        @Override
+        public void onDelete(HasMetadata obj, boolean deletedFinalStateUnknown) {
+            dispatch(obj, true);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only journal of resources created and deleted by the resource manager.
+ * <p>
+ * Every create and delete appends one tab separated line {@code C|D, context, apiVersion, kind, namespace, name}.
+ * Lines are buffered in memory and written together with a single fsync every flush interval, so journaling
+ * does not add a disk sync to every API call. When the JVM dies (OOM kill, CI timeout), the journal still holds
+ * all resources created before the last flush, and {@link #recoverable()} returns the ones which were never
+ * deleted.
+ * <p>
+ * Every JVM writes its own file next to the configured path ({@code <path>.<pid>-<id>}) and holds an exclusive
+ * lock on it until it exits, so forks of one build can share the configured path. Recovery reads only files
+ * which are not locked, which means their JVM is gone, and never touches resources of a JVM which still runs.
+ * A file is removed once none of its resources are left.
+ */
+final class ResourceJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceJournal.class);
+
+    private static final String CREATE = "C";
+    private static final String DELETE = "D";
+    private static final String SEPARATOR = "\t";
+    private static final String NEW_LINE = "\n";
+    // suffix of a journal file after the configured path, <pid>-<id>
+    private static final Pattern FILE_SUFFIX = Pattern.compile("\\d+-[0-9a-f]{8}");
+    // files of journals open in this JVM, closing another channel of such a file could release its lock
+    private static final Set<Path> OPEN_FILES = ConcurrentHashMap.newKeySet();
+
+    private final Path path;
+    private final Path file;
+    private final FileChannel channel;
+    private final ScheduledExecutorService flusher;
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Resource recorded in the journal
+     *
+     * @param context    cluster context of the resource
+     * @param apiVersion api version
+     * @param kind       kind
+     * @param namespace  namespace, empty for cluster scoped resources
+     * @param name       name
+     */
+    record Entry(String context, String apiVersion, String kind, String namespace, String name) {
+
+        static Entry of(String context, HasMetadata resource) {
+            return new Entry(context, resource.getApiVersion(), resource.getKind(),
+                Objects.requireNonNullElse(resource.getMetadata().getNamespace(), ""),
+                resource.getMetadata().getName());
+        }
+
+        private String line(String operation) {
+            return String.join(SEPARATOR, operation, context, apiVersion, kind, namespace, name) + NEW_LINE;
+        }
+    }
+
+    /**
+     * Opens the journal of this JVM for appending, the file is created next to the path
+     *
+     * @param path            path of the journal shared by all runs
+     * @param flushIntervalMs interval of batched writes and fsync
+     * @throws IOException when the journal cannot be opened
+     */
+    ResourceJournal(Path path, long flushIntervalMs) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.file = this.path.resolveSibling(this.path.getFileName() + "." + ProcessHandle.current().pid() + "-"
+            + UUID.randomUUID().toString().substring(0, 8));
+        Files.createDirectories(this.path.getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        try {
+            // released by the operating system when the JVM dies, which marks the file as recoverable
+            channel.lock();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        OPEN_FILES.add(file);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kubetest4j-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns path of the journal shared by all runs
+     *
+     * @return path
+     */
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the file written by this JVM
+     *
+     * @return journal file
+     */
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Records creation of a resource
+     *
+     * @param context  cluster context
+     * @param resource created resource
+     */
+    void created(String context, HasMetadata resource) {
+        append(Entry.of(context, resource).line(CREATE));
+    }
+
+    /**
+     * Records deletion of a resource
+     *
+     * @param context  cluster context
+     * @param resource deleted resource
+     */
+    void deleted(String context, HasMetadata resource) {
+        append(Entry.of(context, resource).line(DELETE));
+    }
+
+    private void append(String line) {
+        synchronized (buffer) {
+            buffer.append(line);
+        }
+    }
+
+    /**
+     * Writes buffered lines and syncs them to the disk
+     *
+     * @throws IOException when writing fails
+     */
+    void flush() throws IOException {
+        byte[] bytes;
+        synchronized (buffer) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.setLength(0);
+        }
+        synchronized (channel) {
+            ByteBuffer data = ByteBuffer.wrap(bytes);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write resource journal {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns resources which were created and never deleted by JVMs which are gone, in creation order.
+     * Journals of JVMs which still run, including this one, are skipped.
+     *
+     * @return recoverable resources
+     */
+    List<Entry> recoverable() {
+        Set<Entry> recoverable = new LinkedHashSet<>();
+        forEachAbandoned(abandoned -> recoverable.addAll(leftovers(abandoned)));
+        return new ArrayList<>(recoverable);
+    }
+
+    /**
+     * Returns resources from the journal file which were created and never deleted, in creation order
+     *
+     * @param file journal file
+     * @return leftover resources, empty if the journal does not exist
+     */
+    static List<Entry> leftovers(Path file) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Set<Entry> live = new LinkedHashSet<>();
+        // only records terminated by a new line are complete, a JVM killed in the middle of a write leaves
+        // a partial last line which is skipped
+        for (String line : content.substring(0, content.lastIndexOf(NEW_LINE) + 1).split(NEW_LINE)) {
+            String[] parts = line.split(SEPARATOR, -1);
+            if (parts.length != 6) {
+                continue;
+            }
+            Entry entry = new Entry(parts[1], parts[2], parts[3], parts[4], parts[5]);
+            if (CREATE.equals(parts[0])) {
+                live.add(entry);
+            } else if (DELETE.equals(parts[0])) {
+                live.remove(entry);
+            }
+        }
+        return new ArrayList<>(live);
+    }
+
+    /**
+     * Removes recovered resources from the journals of JVMs which are gone. Such journals are compacted to
+     * creation records of resources which are still alive, or removed when nothing is left.
+     *
+     * @param recovered resources which were cleaned up
+     * @throws IOException when a journal cannot be written
+     */
+    void forget(Collection<Entry> recovered) throws IOException {
+        List<IOException> failures = new ArrayList<>();
+        forEachAbandoned(abandoned -> {
+            try {
+                List<Entry> remaining = new ArrayList<>(leftovers(abandoned));
+                remaining.removeAll(recovered);
+                if (remaining.isEmpty()) {
+                    Files.delete(abandoned);
+                    return;
+                }
+                StringBuilder content = new StringBuilder();
+                remaining.forEach(entry -> content.append(entry.line(CREATE)));
+                Files.writeString(abandoned, content, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.SYNC);
+            } catch (IOException e) {
+                failures.add(e);
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+    }
+
+    /**
+     * Runs the action for every journal file of the path whose JVM is gone, while holding its lock.
+     *
+     * @param action action receiving the journal file
+     */
+    private void forEachAbandoned(Consumer<Path> action) {
+        String prefix = path.getFileName() + ".";
+        List<Path> candidates;
+        try (var files = Files.list(path.getParent())) {
+            candidates = files
+                .filter(candidate -> candidate.getFileName().toString().startsWith(prefix)
+                    && FILE_SUFFIX.matcher(candidate.getFileName().toString().substring(prefix.length())).matches())
+                .filter(candidate -> !OPEN_FILES.contains(candidate))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Path candidate : candidates) {
+            try (FileChannel other = FileChannel.open(candidate, StandardOpenOption.WRITE)) {
+                FileLock lock = other.tryLock();
+                if (lock == null) {
+                    continue;
+                }
+                try {
+                    action.accept(candidate);
+                } finally {
+                    if (lock.isValid()) {
+                        lock.release();
+                    }
+                }
+            } catch (OverlappingFileLockException e) {
+                // locked by another journal of this JVM
+            } catch (IOException e) {
+                LOGGER.warn("Cannot read resource journal {}: {}", candidate, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        if (channel.isOpen()) {
+            flush();
+            channel.close();
+            OPEN_FILES.remove(file);
+            // nothing to recover, the file would only pile up with every run
+            if (leftovers(file).isEmpty()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.skodjob.kubetest4j.KubeTestConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Creates lightweight references of stored resources.
+ * <p>
+ * A reference is an instance of the same class as the original resource which keeps only apiVersion, kind,
+ * name, namespace, uid, resourceVersion, owner references and kubetest4j labels. Spec, status, data and
+ * managed fields are dropped, so a large ConfigMap, Secret or CRD does not stay on the heap until teardown.
+ * The reference still works with {@code client.resource(reference)} and
+ * {@link io.skodjob.kubetest4j.interfaces.ResourceType} implementations, the full object can be re-resolved
+ * from the cluster whenever it is needed.
+ */
+final class ResourceReferences {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceReferences.class);
+
+    private ResourceReferences() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates lightweight reference of the resource
+     *
+     * @param resource resource
+     * @param <T>      type of the resource
+     * @return reference, or the resource itself when the reference cannot be created
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends HasMetadata> T reference(T resource) {
+        try {
+            T reference = (T) resource.getClass().getDeclaredConstructor().newInstance();
+            reference.setApiVersion(resource.getApiVersion());
+            if (reference instanceof GenericKubernetesResource generic) {
+                generic.setKind(resource.getKind());
+            }
+            ObjectMeta metadata = resource.getMetadata();
+            reference.setMetadata(new ObjectMetaBuilder()
+                .withName(metadata.getName())
+                .withNamespace(metadata.getNamespace())
+                .withUid(metadata.getUid())
+                .withResourceVersion(metadata.getResourceVersion())
+                .withOwnerReferences(metadata.getOwnerReferences())
+                .withLabels(ownLabels(metadata))
+                .build());
+            return reference;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Cannot create reference of {}/{}, keeping full resource: {}",
+                resource.getKind(), resource.getMetadata().getName(), e.getMessage());
+            return resource;
+        }
+    }
+
+    private static Map<String, String> ownLabels(ObjectMeta metadata) {
+        if (metadata.getLabels() == null) {
+            return null;
+        }
+        Map<String, String> labels = metadata.getLabels().entrySet().stream()
+            .filter(label -> label.getKey().startsWith(KubeTestConstants.LABEL_PREFIX))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return labels.isEmpty() ? null : labels;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of resource items stored for one test.
+ * <p>
+ * Items are indexed by (kind, namespace, name), so removal of a deleted resource costs O(1) instead of scanning
+ * all stored items. Every item gets a sequence number on push, which keeps the insertion order needed for
+ * teardown without a shared lock. Push and remove only synchronize on the index entry of one resource and are
+ * safe to call from many threads.
+ */
+final class ResourceRegistry {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, ResourceItem<?>> items = new ConcurrentHashMap<>();
+    private final Map<Key, Set<Long>> index = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a stored resource
+     *
+     * @param kind      kind of the resource
+     * @param namespace namespace of the resource, null for cluster scoped resources
+     * @param name      name of the resource
+     */
+    private record Key(String kind, String namespace, String name) {
+        static Key of(HasMetadata resource) {
+            return new Key(resource.getKind(), resource.getMetadata().getNamespace(),
+                resource.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Stores an item
+     *
+     * @param item item to store
+     */
+    void push(ResourceItem<?> item) {
+        long seq = sequence.incrementAndGet();
+        // the item is stored before it is indexed, so a concurrent remove never finds a sequence without an item,
+        // and the sequence is added atomically, so it never lands in a set which remove has already taken
+        items.put(seq, item);
+        if (item.resource() != null) {
+            index.compute(Key.of(item.resource()), (k, sequences) -> {
+                Set<Long> updated = sequences == null ? ConcurrentHashMap.newKeySet() : sequences;
+                updated.add(seq);
+                return updated;
+            });
+        }
+    }
+
+    /**
+     * Removes all items stored for the resource with the same kind, namespace and name
+     *
+     * @param resource resource
+     * @return number of removed items
+     */
+    int remove(HasMetadata resource) {
+        Set<Long> sequences = index.remove(Key.of(resource));
+        if (sequences == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (Long seq : sequences) {
+            if (items.remove(seq) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns stored items in insertion order
+     *
+     * @return snapshot of stored items
+     */
+    List<ResourceItem<?>> snapshot() {
+        List<Long> sequences = new ArrayList<>(items.keySet());
+        Collections.sort(sequences);
+        List<ResourceItem<?>> snapshot = new ArrayList<>(sequences.size());
+        for (Long seq : sequences) {
+            ResourceItem<?> item = items.get(seq);
+            if (item != null) {
+                snapshot.add(item);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes all stored items
+     *
+     * @return removed items in teardown (LIFO) order
+     */
+    List<ResourceItem<?>> drain() {
+        List<Long> sequences = new ArrayList<>(items.keySet());
+        sequences.sort(Collections.reverseOrder());
+        List<ResourceItem<?>> drained = new ArrayList<>(sequences.size());
+        for (Long seq : sequences) {
+            // an item can be removed concurrently, only the thread which removed it gets it
+            ResourceItem<?> item = items.remove(seq);
+            if (item != null) {
+                drained.add(item);
+                if (item.resource() != null) {
+                    index.computeIfPresent(Key.of(item.resource()), (k, s) -> {
+                        s.remove(seq);
+                        return s.isEmpty() ? null : s;
+                    });
+                }
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Returns number of stored items
+     *
+     * @return number of items
+     */
+    int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns whether there are no stored items
+     *
+     * @return true if the registry is empty
+     */
+    boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Teardown plan of resources stored for one test.
+ * <p>
+ * Resources living in a namespace which is itself managed by the resource manager are removed together
+ * with that namespace, so they are not deleted one by one. They are collapsed into the namespace item
+ * and only reported once the namespace is being deleted. Only items which merely delete their resource are
+ * collapsed, and only into a namespace item which merely deletes the namespace, so custom delete actions
+ * always run.
+ * <p>
+ * Remaining items are ordered into waves. Items in one wave do not depend on each other and can be deleted
+ * in parallel, every wave is deleted only once all previous waves are gone. An item is deleted after
+ * <ul>
+ *     <li>its owner (listed in owner references), so that the garbage collector removes it instead of
+ *     a controller recreating it</li>
+ * </ul>
+ * and before
+ * <ul>
+ *     <li>its namespace</li>
+ *     <li>the CustomResourceDefinition of its API group</li>
+ *     <li>resources of kinds it refers to, see {@link #DELETE_BEFORE}</li>
+ * </ul>
+ * Items without a resource run custom delete actions, so each of them forms a wave of its own which keeps its
+ * position in the LIFO order, items between two such waves are ordered independently of the rest.
+ * Items without dependencies keep the LIFO order of the stack inside their wave.
+ */
+final class TeardownPlan {
+
+    private static final String NAMESPACE_KIND = "Namespace";
+    private static final String CRD_KIND = "CustomResourceDefinition";
+
+    /**
+     * Kinds which have to be deleted before the listed kinds, because they refer to them
+     */
+    private static final Map<String, Set<String>> DELETE_BEFORE = Map.of(
+        "RoleBinding", Set.of("Role", "ClusterRole", "ServiceAccount"),
+        "ClusterRoleBinding", Set.of("ClusterRole", "ServiceAccount"),
+        "Subscription", Set.of("OperatorGroup", "CatalogSource"),
+        "ClusterServiceVersion", Set.of("OperatorGroup")
+    );
+
+    private final List<List<ResourceItem<?>>> waves;
+    private final Map<ResourceItem<?>, List<ResourceItem<?>>> collapsed;
+
+    private TeardownPlan(List<List<ResourceItem<?>>> waves, Map<ResourceItem<?>, List<ResourceItem<?>>> collapsed) {
+        this.waves = waves;
+        this.collapsed = collapsed;
+    }
+
+    /**
+     * Creates a plan from items in the order in which they should be deleted
+     *
+     * @param items       items in deletion order (LIFO order of the stack)
+     * @param collapsible decides whether an item only deletes its resource, so that a resource may be removed
+     *                    by the deletion of its namespace and a namespace item removes the resources inside,
+     *                    items with custom deletion logic should not be collapsible
+     * @return teardown plan
+     */
+    static TeardownPlan of(List<ResourceItem<?>> items, Predicate<ResourceItem<?>> collapsible) {
+        Map<String, ResourceItem<?>> namespaceItems = new HashMap<>();
+        for (ResourceItem<?> item : items) {
+            if (isNamespace(item.resource()) && collapsible.test(item)) {
+                namespaceItems.putIfAbsent(item.resource().getMetadata().getName(), item);
+            }
+        }
+
+        List<ResourceItem<?>> itemsToDelete = new ArrayList<>();
+        // identity map, items are records and two items may hold equal resources
+        Map<ResourceItem<?>, List<ResourceItem<?>>> collapsed = new IdentityHashMap<>();
+        for (ResourceItem<?> item : items) {
+            HasMetadata resource = item.resource();
+            ResourceItem<?> namespaceItem = resource == null || isNamespace(resource) ? null
+                : namespaceItems.get(resource.getMetadata().getNamespace());
+            if (namespaceItem != null && collapsible.test(item)) {
+                collapsed.computeIfAbsent(namespaceItem, ns -> new ArrayList<>()).add(item);
+            } else {
+                itemsToDelete.add(item);
+            }
+        }
+        return new TeardownPlan(waves(itemsToDelete), collapsed);
+    }
+
+    /**
+     * Orders items into waves, items without a resource are barriers deleted in a wave of their own
+     *
+     * @param items items in LIFO order
+     * @return waves of independent items
+     */
+    private static List<List<ResourceItem<?>>> waves(List<ResourceItem<?>> items) {
+        List<List<ResourceItem<?>>> waves = new ArrayList<>();
+        List<ResourceItem<?>> segment = new ArrayList<>();
+        for (ResourceItem<?> item : items) {
+            if (item.resource() == null) {
+                waves.addAll(segmentWaves(segment));
+                segment = new ArrayList<>();
+                waves.add(List.of(item));
+            } else {
+                segment.add(item);
+            }
+        }
+        waves.addAll(segmentWaves(segment));
+        return waves;
+    }
+
+    /**
+     * Orders items with a resource into waves by longest path in the dependency graph
+     *
+     * @param items items in LIFO order
+     * @return waves of independent items
+     */
+    private static List<List<ResourceItem<?>>> segmentWaves(List<ResourceItem<?>> items) {
+        int size = items.size();
+        List<List<Integer>> successors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            successors.add(new ArrayList<>());
+        }
+        int[] inDegree = new int[size];
+        addDependencies(items, (before, after) -> {
+            if (before != after) {
+                successors.get(before).add(after);
+                inDegree[after]++;
+            }
+        });
+
+        int[] wave = new int[size];
+        List<Integer> ready = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (inDegree[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int processed = 0;
+        int lastWave = 0;
+        while (processed < ready.size()) {
+            int current = ready.get(processed++);
+            lastWave = Math.max(lastWave, wave[current]);
+            for (int next : successors.get(current)) {
+                wave[next] = Math.max(wave[next], wave[current] + 1);
+                if (--inDegree[next] == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+
+        List<List<ResourceItem<?>>> waves = new ArrayList<>();
+        for (int w = 0; w <= lastWave && size > 0; w++) {
+            waves.add(new ArrayList<>());
+        }
+        boolean[] planned = new boolean[size];
+        for (int i : ready) {
+            planned[i] = true;
+        }
+        List<ResourceItem<?>> cyclic = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (planned[i]) {
+                waves.get(wave[i]).add(items.get(i));
+            } else {
+                cyclic.add(items.get(i));
+            }
+        }
+        waves.removeIf(List::isEmpty);
+        // dependency cycles cannot be resolved, such items are deleted last in their original order
+        if (!cyclic.isEmpty()) {
+            waves.add(cyclic);
+        }
+        return waves;
+    }
+
+    /**
+     * Reports every "delete before" relation between items as a pair of indexes
+     *
+     * @param items items with a resource in LIFO order
+     * @param edges consumer of (before, after) index pairs
+     */
+    private static void addDependencies(List<ResourceItem<?>> items, Edge edges) {
+        Map<String, Integer> byKey = new HashMap<>();
+        Map<String, List<Integer>> byKind = new HashMap<>();
+        Map<String, Integer> namespaces = new HashMap<>();
+        Map<String, List<Integer>> crdGroups = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            HasMetadata resource = items.get(i).resource();
+            if (resource.getMetadata() == null) {
+                continue;
+            }
+            byKey.putIfAbsent(key(resource.getKind(), resource.getMetadata().getNamespace(),
+                resource.getMetadata().getName()), i);
+            byKind.computeIfAbsent(resource.getKind(), k -> new ArrayList<>()).add(i);
+            if (isNamespace(resource)) {
+                namespaces.putIfAbsent(resource.getMetadata().getName(), i);
+            }
+            if (CRD_KIND.equals(resource.getKind()) && resource.getMetadata().getName() != null
+                && resource.getMetadata().getName().contains(".")) {
+                // CRD names are <plural>.<group>
+                String name = resource.getMetadata().getName();
+                crdGroups.computeIfAbsent(name.substring(name.indexOf('.') + 1), g -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            HasMetadata resource = items.get(i).resource();
+            if (resource.getMetadata() == null) {
+                continue;
+            }
+            String namespace = resource.getMetadata().getNamespace();
+            if (namespace != null && namespaces.containsKey(namespace)) {
+                edges.add(i, namespaces.get(namespace));
+            }
+            if (!CRD_KIND.equals(resource.getKind())) {
+                // one API group can define several kinds, the resource waits for all CRDs of its group
+                for (int crd : crdGroups.getOrDefault(group(resource), List.of())) {
+                    edges.add(i, crd);
+                }
+            }
+            for (String dependency : DELETE_BEFORE.getOrDefault(resource.getKind(), Set.of())) {
+                for (int j : byKind.getOrDefault(dependency, List.of())) {
+                    edges.add(i, j);
+                }
+            }
+            for (OwnerReference owner : Optional.ofNullable(resource.getMetadata().getOwnerReferences())
+                .orElse(List.of())) {
+                Integer ownerIndex = byKey.get(key(owner.getKind(), namespace, owner.getName()));
+                if (ownerIndex == null) {
+                    // owner can be cluster scoped
+                    ownerIndex = byKey.get(key(owner.getKind(), null, owner.getName()));
+                }
+                if (ownerIndex != null) {
+                    edges.add(ownerIndex, i);
+                }
+            }
+        }
+    }
+
+    private static String key(String kind, String namespace, String name) {
+        return kind + "/" + Objects.requireNonNullElse(namespace, "") + "/" + name;
+    }
+
+    private static String group(HasMetadata resource) {
+        String apiVersion = resource.getApiVersion();
+        return apiVersion == null || !apiVersion.contains("/") ? "" : apiVersion.substring(0, apiVersion.indexOf('/'));
+    }
+
+    /**
+     * Returns items which have to be deleted individually, in deletion order
+     *
+     * @return items to delete
+     */
+    List<ResourceItem<?>> itemsToDelete() {
+        return waves.stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Returns items grouped into waves which can be deleted in parallel, in deletion order of waves
+     *
+     * @return waves of items
+     */
+    List<List<ResourceItem<?>>> waves() {
+        return Collections.unmodifiableList(waves);
+    }
+
+    /**
+     * Returns items which are removed by deletion of the namespace {@code namespaceItem}
+     *
+     * @param namespaceItem item of a managed namespace
+     * @return collapsed items, empty if there are none
+     */
+    List<ResourceItem<?>> collapsedInto(ResourceItem<?> namespaceItem) {
+        return Collections.unmodifiableList(collapsed.getOrDefault(namespaceItem, List.of()));
+    }
+
+    /**
+     * Returns the number of items which are not deleted individually
+     *
+     * @return number of collapsed items
+     */
+    int collapsedCount() {
+        return collapsed.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static boolean isNamespace(HasMetadata resource) {
+        return resource != null && NAMESPACE_KIND.equals(resource.getKind())
+            && resource.getMetadata() != null && resource.getMetadata().getName() != null;
+    }
+
+    /**
+     * Receives a "delete before" relation between two items
+     */
+    @FunctionalInterface
+    private interface Edge {
+        void add(int before, int after);
+    }
+}
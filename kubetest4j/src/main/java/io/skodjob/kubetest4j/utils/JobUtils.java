@@ -38,12 +38,13 @@ public final class JobUtils {
      * @param logMessage desired log message
      */
     public static void waitForJobContainingLogMessage(String namespace, String jobName, String logMessage) {
-        String jobPodName = KubeResourceManager.get().kubeClient()
+        String jobPodName = KubeResourceManager.current().kubeClient()
             .listPodsByPrefixInName(namespace, jobName).get(0).getMetadata().getName();
 
         Wait.until("Job contains log message: " + logMessage,
             KubeTestConstants.GLOBAL_POLL_INTERVAL_LONG, KubeTestConstants.GLOBAL_TIMEOUT,
-            () -> KubeResourceManager.get().kubeClient().getLogsFromPod(namespace, jobPodName).contains(logMessage));
+            () -> KubeResourceManager.current().kubeClient().getLogsFromPod(namespace, jobPodName)
+                .contains(logMessage));
     }
 
     /**
@@ -52,7 +53,7 @@ public final class JobUtils {
      * @param namespace Delete all jobs in this namespace
      */
     public static void removeAllJobs(String namespace) {
-        KubeResourceManager.get().kubeClient().getClient()
+        KubeResourceManager.current().kubeClient().getClient()
             .batch().v1().jobs().inNamespace(namespace).list().getItems().forEach(
                 job -> JobUtils.deleteJobWithWait(namespace, job.getMetadata().getName()));
     }
@@ -67,7 +68,7 @@ public final class JobUtils {
         LOGGER.debug("Waiting for Job: {}/{} deletion", namespace, jobName);
         Wait.until("deletion of Job: " + namespace + "/" + jobName,
             KubeTestConstants.GLOBAL_POLL_INTERVAL_1_SEC, KubeTestConstants.GLOBAL_TIMEOUT_MEDIUM,
-            () -> KubeResourceManager.get().kubeClient().listPodsByPrefixInName(namespace, jobName).isEmpty());
+            () -> KubeResourceManager.current().kubeClient().listPodsByPrefixInName(namespace, jobName).isEmpty());
         LOGGER.debug("Job: {}/{} was deleted", namespace, jobName);
     }
 
@@ -78,7 +79,7 @@ public final class JobUtils {
      * @param jobName   name of the job
      */
     public static void deleteJobWithWait(String namespace, String jobName) {
-        KubeResourceManager.get().kubeClient().getClient()
+        KubeResourceManager.current().kubeClient().getClient()
             .batch().v1().jobs().inNamespace(namespace).withName(jobName).delete();
         waitForJobDeletion(namespace, jobName);
     }
@@ -94,7 +95,7 @@ public final class JobUtils {
         LOGGER.info("Waiting for Job: {}/{} to success", namespace, jobName);
         Wait.until("success of Job: " + namespace + "/" + jobName,
             KubeTestConstants.GLOBAL_POLL_INTERVAL_1_SEC, timeout,
-            () -> KubeResourceManager.get().kubeClient().getClient().batch().v1().jobs()
+            () -> KubeResourceManager.current().kubeClient().getClient().batch().v1().jobs()
                 .inNamespace(namespace).withName(jobName).get().getStatus().getSucceeded() != null);
     }
 
@@ -109,7 +110,7 @@ public final class JobUtils {
         LOGGER.info("Waiting for Job: {}/{} to fail", namespace, jobName);
         Wait.until("failure of Job: " + namespace + "/" + jobName,
             KubeTestConstants.GLOBAL_POLL_INTERVAL_1_SEC, timeout,
-            () -> KubeResourceManager.get().kubeClient().getClient().batch().v1().jobs()
+            () -> KubeResourceManager.current().kubeClient().getClient().batch().v1().jobs()
                 .inNamespace(namespace).withName(jobName).get().getStatus().getFailed() != null);
     }
 
@@ -120,7 +121,7 @@ public final class JobUtils {
      * @param jobName   name of the job, for which we should scrape status
      */
     public static void logCurrentJobStatus(String namespace, String jobName) {
-        Job currentJob = KubeResourceManager.get().kubeClient().getClient().batch().v1().jobs()
+        Job currentJob = KubeResourceManager.current().kubeClient().getClient().batch().v1().jobs()
             .inNamespace(namespace).withName(jobName).get();
 
         if (currentJob != null && currentJob.getStatus() != null) {
@@ -151,7 +152,7 @@ public final class JobUtils {
 
             log.add("\n\nPods with conditions and messages:\n\n");
 
-            for (Pod pod : KubeResourceManager.get().kubeClient().listPodsByPrefixInName(namespace, jobName)) {
+            for (Pod pod : KubeResourceManager.current().kubeClient().listPodsByPrefixInName(namespace, jobName)) {
                 log.add(pod.getMetadata().getName() + ":");
                 List<String> podConditions = new ArrayList<>();
 
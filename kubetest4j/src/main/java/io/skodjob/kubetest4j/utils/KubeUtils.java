@@ -36,7 +36,7 @@ public final class KubeUtils {
         Wait.until("InstallPlan approval", KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT, 15_000, () -> {
             try {
                 InstallPlan installPlan =
-                    new InstallPlanBuilder(KubeResourceManager.get().kubeClient()
+                    new InstallPlanBuilder(KubeResourceManager.current().kubeClient()
                         .getOpenShiftClient().operatorHub().installPlans()
                         .inNamespace(namespaceName).withName(installPlanName).get())
                         .editSpec()
@@ -44,7 +44,7 @@ public final class KubeUtils {
                         .endSpec()
                         .build();
 
-                KubeResourceManager.get().kubeClient().getOpenShiftClient().operatorHub().installPlans()
+                KubeResourceManager.current().kubeClient().getOpenShiftClient().operatorHub().installPlans()
                     .inNamespace(namespaceName).withName(installPlanName).patch(installPlan);
                 return true;
             } catch (Exception ex) {
@@ -62,7 +62,7 @@ public final class KubeUtils {
      * @return list of not approved install-plans
      */
     public static InstallPlan getNonApprovedInstallPlan(String namespaceName, String csvPrefix) {
-        return KubeResourceManager.get().kubeClient().getOpenShiftClient().operatorHub().installPlans()
+        return KubeResourceManager.current().kubeClient().getOpenShiftClient().operatorHub().installPlans()
             .inNamespace(namespaceName).list().getItems().stream()
             .filter(installPlan -> !installPlan.getSpec().getApproved()
                 && installPlan.getSpec().getClusterServiceVersionNames().toString().contains(csvPrefix))
@@ -77,12 +77,12 @@ public final class KubeUtils {
      * @param value     label value
      */
     public static void labelNamespace(String namespace, String key, String value) {
-        if (KubeResourceManager.get().kubeClient().namespaceExists(namespace)) {
+        if (KubeResourceManager.current().kubeClient().namespaceExists(namespace)) {
             Wait.until(String.format("Namespace %s has label: %s", namespace, key),
                 KubeTestConstants.GLOBAL_POLL_INTERVAL_1_SEC, KubeTestConstants.GLOBAL_STABILITY_TIME, () -> {
                     try {
-                        KubeResourceManager.get().kubeClient().getClient().namespaces().withName(namespace).edit(n ->
-                            new NamespaceBuilder(n)
+                        KubeResourceManager.current().kubeClient().getClient().namespaces().withName(namespace)
+                            .edit(n -> new NamespaceBuilder(n)
                                 .editMetadata()
                                 .addToLabels(key, value)
                                 .endMetadata()
@@ -90,7 +90,7 @@ public final class KubeUtils {
                     } catch (Exception ex) {
                         return false;
                     }
-                    Namespace n = KubeResourceManager.get().kubeClient()
+                    Namespace n = KubeResourceManager.current().kubeClient()
                         .getClient().namespaces().withName(namespace).get();
                     if (n != null) {
                         return n.getMetadata().getLabels().get(key) != null;
@@ -106,7 +106,7 @@ public final class KubeUtils {
      * @return true if cluster is openshift
      */
     public static boolean isOcp() {
-        return KubeResourceManager.get().kubeCmdClient()
+        return KubeResourceManager.current().kubeCmdClient()
             .exec(false, false, "api-versions").out().contains("openshift.io");
     }
 
@@ -116,6 +116,6 @@ public final class KubeUtils {
      * @return true if cluster is multinode
      */
     public static boolean isMultinode() {
-        return KubeResourceManager.get().kubeClient().getClient().nodes().list().getItems().size() > 1;
+        return KubeResourceManager.current().kubeClient().getClient().nodes().list().getItems().size() > 1;
     }
 }
@@ -7,17 +7,27 @@ package io.skodjob.kubetest4j.utils;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.skodjob.kubetest4j.KubeTestConstants;
+import io.skodjob.kubetest4j.enums.WaitOutcome;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
 import io.skodjob.kubetest4j.wait.Wait;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import io.skodjob.kubetest4j.wait.WaitException;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents utils class for pod
@@ -26,29 +36,34 @@ public final class PodUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PodUtils.class);
     private static final long READINESS_TIMEOUT = Duration.ofMinutes(10).toMillis();
+    private static final long WATCH_SYNC_TIMEOUT = Duration.ofSeconds(30).toMillis();
+    private static final String POD_KIND = "Pod";
+    // waiting reasons of containers which do not recover without a change of the Pod
+    private static final Set<String> TERMINAL_WAITING_REASONS =
+        Set.of("ImagePullBackOff", "CrashLoopBackOff", "InvalidImageName");
 
     private PodUtils() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Wait for all pods in namespace to be ready
+     * Wait for all pods in namespace to be ready.
+     * With watch based waits enabled (see {@link KubeResourceManager#setWatchBasedWaits(boolean)}) the Pods
+     * are checked on every Pod event of an informer, otherwise the Pods are listed periodically.
      *
      * @param namespaceName   name of the namespace
      * @param containersReady flag wait for all containers
      * @param onTimeout       callback on timeout
      */
     public static void waitForPodsReady(String namespaceName, boolean containersReady, Runnable onTimeout) {
-        Wait.until("readiness of all Pods in namespace " + namespaceName,
-            KubeTestConstants.GLOBAL_POLL_INTERVAL_MEDIUM, READINESS_TIMEOUT,
-            () -> {
-                List<Pod> pods = KubeResourceManager.get().kubeClient().getClient()
-                    .pods().inNamespace(namespaceName).list().getItems();
+        awaitPods("readiness of all Pods in namespace " + namespaceName, namespaceName, null,
+            pods -> {
                 if (pods.isEmpty()) {
                     LOGGER.debug("There are no existing Pods in Namespace {}", namespaceName);
                     return false;
                 }
                 for (Pod pod : pods) {
+                    abortOnTerminalFailure(pod);
                     if (!(Readiness.isPodReady(pod) || Readiness.isPodSucceeded(pod))) {
                         LOGGER.debug("There is not ready Pod {}/{}", namespaceName, pod.getMetadata().getName());
                         return false;
@@ -76,7 +91,9 @@ public final class PodUtils {
     }
 
     /**
-     * Wait for pods selected by label selector in namespace to be ready
+     * Wait for pods selected by label selector in namespace to be ready.
+     * With watch based waits enabled (see {@link KubeResourceManager#setWatchBasedWaits(boolean)}) the Pods
+     * are checked on every Pod event of an informer, otherwise the Pods are listed periodically.
      *
      * @param namespaceName   namespace
      * @param selector        label selector of the pods
@@ -86,11 +103,9 @@ public final class PodUtils {
      */
     public static void waitForPodsReady(String namespaceName, LabelSelector selector, int expectPodsCount,
                                         boolean containers, Runnable onTimeout) {
-        Wait.until("readiness of all Pods matching " + selector + " in Namespace " + namespaceName,
-            KubeTestConstants.GLOBAL_POLL_INTERVAL_MEDIUM, READINESS_TIMEOUT,
-            () -> {
-                List<Pod> pods = KubeResourceManager.get().kubeClient().getClient().pods()
-                    .inNamespace(namespaceName).withLabelSelector(selector).list().getItems();
+        awaitPods("readiness of all Pods matching " + selector + " in Namespace " + namespaceName,
+            namespaceName, selector,
+            pods -> {
                 if (pods.isEmpty() && expectPodsCount == 0) {
                     LOGGER.debug("All expected Pods {} in Namespace {} are ready", selector, namespaceName);
                     return true;
@@ -104,6 +119,7 @@ public final class PodUtils {
                     return false;
                 }
                 for (Pod pod : pods) {
+                    abortOnTerminalFailure(pod);
                     if (!(Readiness.isPodReady(pod) || Readiness.isPodSucceeded(pod))) {
                         LOGGER.debug("Pod is not ready: {}/{}", namespaceName, pod.getMetadata().getName());
                         return false;
@@ -145,9 +161,9 @@ public final class PodUtils {
             });
         } catch (Exception ex) {
             LOGGER.warn("Pods {}/{} are not ready. Going to restart them", namespaceName, selector);
-            KubeResourceManager.get().kubeClient().getClient().pods()
+            KubeResourceManager.current().kubeClient().getClient().pods()
                 .inNamespace(namespaceName).withLabelSelector(selector).list().getItems().forEach(p ->
-                    KubeResourceManager.get().kubeClient().getClient().resource(p).delete());
+                    KubeResourceManager.current().kubeClient().getClient().resource(p).delete());
             waitForPodsReady(namespaceName, selector, expectedPodsCount, containersReady, () -> {
             });
         }
@@ -162,7 +178,7 @@ public final class PodUtils {
      * @return key value map podName -> uid
      */
     public static Map<String, String> podSnapshot(String namespaceName, LabelSelector selector) {
-        List<Pod> pods = KubeResourceManager.get().kubeClient().getClient().pods()
+        List<Pod> pods = KubeResourceManager.current().kubeClient().getClient().pods()
             .inNamespace(namespaceName).withLabelSelector(selector).list().getItems();
         return pods.stream()
             .collect(
@@ -177,14 +193,43 @@ public final class PodUtils {
      * @param selector      label selector
      */
     public static void verifyThatPodsAreStable(String namespaceName, LabelSelector selector) {
+        verifyThatPodsAreStable(namespaceName, selector, KubeTestConstants.GLOBAL_STABILITY_TIME);
+    }
+
+    /**
+     * Verify if the pod is stable after it is in ready state, the Pods have to stay in phase Running
+     * for the whole quiet window.
+     * With watch based waits enabled (see {@link KubeResourceManager#setWatchBasedWaits(boolean)}) stability is
+     * judged from the Pod events: an added or deleted Pod, a recreated Pod (new UID), a container restart or
+     * a phase transition restarts the quiet window. Otherwise, the Pods are listed periodically and only
+     * their phase is checked.
+     *
+     * @param namespaceName namespace
+     * @param selector      label selector
+     * @param quietWindowMs how long the Pods have to stay stable in milliseconds
+     */
+    public static void verifyThatPodsAreStable(String namespaceName, LabelSelector selector, long quietWindowMs) {
         int[] stabilityCounter = {0};
         String phase = "Running";
+        String description = String.format("Pods in Namespace '%s' with LabelSelector %s stability in phase %s",
+            namespaceName, selector, phase);
+
+        PodWatch watch = startWatch(namespaceName, selector);
+        if (watch != null) {
+            try (watch) {
+                awaitWatched(description, KubeTestConstants.GLOBAL_TIMEOUT, () -> {
+                }, measurement -> watch.awaitQuiet(phase, quietWindowMs, KubeTestConstants.GLOBAL_TIMEOUT,
+                    measurement));
+            }
+            LOGGER.info("All Pods {}/{} are stable", namespaceName, selector);
+            return;
+        }
 
-        Wait.until(String.format("Pods in Namespace '%s' with LabelSelector %s stability in phase %s",
-                namespaceName, selector, phase),
+        long requiredPolls = Math.max(quietWindowMs / KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT, 1);
+        WaitTelemetry.withKind(POD_KIND, () -> Wait.until(description,
             KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT, KubeTestConstants.GLOBAL_TIMEOUT,
             () -> {
-                List<Pod> existingPod = KubeResourceManager.get().kubeClient().getClient().pods()
+                List<Pod> existingPod = KubeResourceManager.current().kubeClient().getClient().pods()
                     .inNamespace(namespaceName).withLabelSelector(selector).list().getItems();
                 LOGGER.debug("Considering the following Pods {}", existingPod.stream()
                     .map(p -> p.getMetadata().getName()).toList());
@@ -199,8 +244,7 @@ public final class PodUtils {
                             namespaceName,
                             pod.getMetadata().getName(),
                             pod.getStatus().getPhase(),
-                            KubeTestConstants.GLOBAL_STABILITY_TIME -
-                                (KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT * stabilityCounter[0])
+                            quietWindowMs - (KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT * stabilityCounter[0])
                         );
                     } else {
                         LOGGER.warn("Pod {}/{} is not stable in phase following phase {} ({})" +
@@ -213,14 +257,136 @@ public final class PodUtils {
                 }
                 stabilityCounter[0]++;
 
-                if (stabilityCounter[0] == KubeTestConstants.GLOBAL_STABILITY_TIME /
-                    (KubeTestConstants.GLOBAL_POLL_INTERVAL_SHORT)) {
+                if (stabilityCounter[0] >= requiredPolls) {
                     LOGGER.info("All Pods {}/{} are stable", namespaceName, existingPod.stream()
                         .map(p -> p.getMetadata().getName()).collect(Collectors.joining(" ,")));
                     return true;
                 }
                 return false;
+            }));
+    }
+
+    /**
+     * Returns the failure a Pod does not recover from on its own, a container waiting in
+     * {@code ImagePullBackOff}, {@code CrashLoopBackOff} or {@code InvalidImageName}.
+     *
+     * @param pod pod to check
+     * @return description of the failure, empty if the Pod is not failing
+     */
+    public static Optional<String> getTerminalFailure(Pod pod) {
+        if (pod == null || pod.getStatus() == null) {
+            return Optional.empty();
+        }
+        return Stream.of(pod.getStatus().getInitContainerStatuses(), pod.getStatus().getContainerStatuses())
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .filter(cs -> cs.getState() != null && cs.getState().getWaiting() != null
+                && TERMINAL_WAITING_REASONS.contains(cs.getState().getWaiting().getReason()))
+            .findFirst()
+            .map(cs -> String.format("Container %s of Pod %s/%s is in %s: %s", cs.getName(),
+                pod.getMetadata().getNamespace(), pod.getMetadata().getName(),
+                cs.getState().getWaiting().getReason(), cs.getState().getWaiting().getMessage()));
+    }
+
+    /**
+     * Aborts the wait when fail-fast waits are enabled and the Pod is failing, see
+     * {@link KubeResourceManager#setFailFastWaits(boolean)}
+     *
+     * @param pod pod to check
+     */
+    private static void abortOnTerminalFailure(Pod pod) {
+        if (KubeResourceManager.current().isFailFastWaits()) {
+            getTerminalFailure(pod).ifPresent(failure -> {
+                throw new WaitAbortedException(failure);
             });
+        }
+    }
+
+    /**
+     * Waits until the Pods fulfill the condition, on events of a Pod informer or by listing the Pods
+     * when watch based waits are disabled or the informer cannot be started
+     *
+     * @param description   information about on what we are waiting
+     * @param namespaceName namespace of the Pods
+     * @param selector      label selector of the Pods, {@code null} for all Pods of the namespace
+     * @param ready         condition evaluated on the Pods
+     * @param onTimeout     callback on timeout
+     */
+    private static void awaitPods(String description, String namespaceName, LabelSelector selector,
+                                  Predicate<List<Pod>> ready, Runnable onTimeout) {
+        PodWatch watch = startWatch(namespaceName, selector);
+        if (watch != null) {
+            try (watch) {
+                awaitWatched(description, READINESS_TIMEOUT, onTimeout,
+                    measurement -> watch.awaitCondition(ready, READINESS_TIMEOUT, measurement));
+            }
+            return;
+        }
+        WaitTelemetry.withKind(POD_KIND, () -> Wait.until(description,
+            KubeTestConstants.POLL_STRATEGY_FOR_RESOURCE_READINESS, READINESS_TIMEOUT,
+            () -> ready.test(listPods(namespaceName, selector)), onTimeout));
+    }
+
+    /**
+     * Runs a wait of {@link PodWatch} with the logging, telemetry and exceptions of {@link Wait#until}
+     *
+     * @param description information about on what we are waiting
+     * @param timeoutMs   timeout of the wait in milliseconds
+     * @param onTimeout   callback on timeout or abort
+     * @param wait        the wait, returns false once the timeout is reached
+     */
+    private static void awaitWatched(String description, long timeoutMs, Runnable onTimeout,
+                                     Predicate<WaitTelemetry.Measurement> wait) {
+        LOGGER.info("Waiting for: {}", description);
+        WaitTelemetry.Measurement measurement = WaitTelemetry.start(description, POD_KIND, timeoutMs);
+        boolean done;
+        try {
+            done = wait.test(measurement);
+        } catch (WaitAbortedException e) {
+            LOGGER.error("Aborted waiting for: {} - {}", description, e.getMessage());
+            measurement.finish(WaitOutcome.ABORTED);
+            onTimeout.run();
+            throw e;
+        }
+        if (done) {
+            measurement.finish(WaitOutcome.SUCCESS);
+            return;
+        }
+        measurement.finish(WaitOutcome.TIMEOUT);
+        onTimeout.run();
+        WaitException waitException = new WaitException("Timeout after " + timeoutMs
+            + " ms waiting for " + description);
+        LOGGER.error(waitException.getMessage(), waitException);
+        throw waitException;
+    }
+
+    /**
+     * Starts a Pod informer on the cluster of the calling thread when watch based waits are enabled
+     *
+     * @param namespaceName namespace of the Pods
+     * @param selector      label selector of the Pods, {@code null} for all Pods of the namespace
+     * @return synced watch, or {@code null} when the Pods have to be polled
+     */
+    private static PodWatch startWatch(String namespaceName, LabelSelector selector) {
+        KubeResourceManager resourceManager = KubeResourceManager.current();
+        if (!resourceManager.isWatchBasedWaits()) {
+            return null;
+        }
+        try {
+            return PodWatch.start(resourceManager.kubeClient().getClient(), namespaceName, selector,
+                WATCH_SYNC_TIMEOUT);
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Cannot watch Pods in namespace {}, falling back to polling: {}",
+                namespaceName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<Pod> listPods(String namespaceName, LabelSelector selector) {
+        return selector == null
+            ? KubeResourceManager.current().kubeClient().getClient().pods().inNamespace(namespaceName).list().getItems()
+            : KubeResourceManager.current().kubeClient().getClient().pods().inNamespace(namespaceName)
+                .withLabelSelector(selector).list().getItems();
     }
 
     /**
@@ -0,0 +1,272 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.utils;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Informer on the Pods of one namespace, optionally filtered by a label selector, used by the event driven
+ * waits of {@link PodUtils}.
+ * <p>
+ * Conditions are evaluated on the informer cache after every Pod event instead of listing the Pods
+ * periodically, so a wait ends as soon as the last Pod turns ready. Stability is judged from the watch
+ * stream: a new or deleted Pod, a changed UID, restart count or phase disrupts it, and the Pods are stable
+ * once no disruption was observed for the whole quiet window. A Pod re-added by a relist of the informer
+ * is not new, it only disrupts the Pods when its state changed meanwhile.
+ */
+final class PodWatch implements AutoCloseable, ResourceEventHandler<Pod> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodWatch.class);
+
+    private final String namespace;
+    private final SharedIndexInformer<Pod> informer;
+    // Pod name -> last observed state
+    private final Map<String, PodState> observed = new ConcurrentHashMap<>();
+    // UIDs (names of Pods without UID) of all Pods seen by the informer
+    private final Set<String> knownPods = ConcurrentHashMap.newKeySet();
+    private final Object lock = new Object();
+    // guarded by lock, incremented on every event
+    private long version;
+    private volatile boolean synced;
+    private volatile long lastDisruption = System.currentTimeMillis();
+
+    /**
+     * State of a Pod which must not change while the Pods are stable
+     *
+     * @param uid      UID of the Pod, a different UID means the Pod was recreated
+     * @param phase    phase of the Pod
+     * @param restarts sum of the restart counts of all containers
+     */
+    private record PodState(String uid, String phase, int restarts) {
+        static PodState of(Pod pod) {
+            int restarts = pod.getStatus() == null ? 0 : Stream.of(pod.getStatus().getInitContainerStatuses(),
+                    pod.getStatus().getContainerStatuses())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(ContainerStatus::getRestartCount)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sum();
+            return new PodState(pod.getMetadata().getUid(), phaseOf(pod), restarts);
+        }
+    }
+
+    private PodWatch(KubernetesClient client, String namespace, LabelSelector selector) {
+        this.namespace = namespace;
+        this.informer = selector == null
+            ? client.pods().inNamespace(namespace).runnableInformer(0)
+            : client.pods().inNamespace(namespace).withLabelSelector(selector).runnableInformer(0);
+        // do not retry a failed initial list, the wait falls back to polling instead
+        this.informer.exceptionHandler((isStarted, t) -> isStarted);
+        this.informer.addEventHandler(this);
+    }
+
+    /**
+     * Starts the informer and waits until its cache is synced.
+     *
+     * @param client        client used for the informer
+     * @param namespace     namespace of the Pods
+     * @param selector      label selector of the Pods, {@code null} for all Pods of the namespace
+     * @param syncTimeoutMs how long to wait for the initial list
+     * @return the synced watch
+     * @throws KubernetesClientException when the informer cannot be started (f.e. missing list/watch RBAC)
+     */
+    static PodWatch start(KubernetesClient client, String namespace, LabelSelector selector, long syncTimeoutMs) {
+        PodWatch watch = new PodWatch(client, namespace, selector);
+        try {
+            watch.informer.start().toCompletableFuture().get(syncTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            watch.close();
+            throw new KubernetesClientException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            watch.close();
+            throw new KubernetesClientException("Pod informer in namespace " + namespace + " is not synced");
+        } catch (InterruptedException e) {
+            watch.close();
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while starting Pod informer", e);
+        }
+        watch.synced = true;
+        return watch;
+    }
+
+    /**
+     * Returns whether the informer is watching, the events before that are not replayed
+     *
+     * @return true if watching
+     */
+    boolean isWatching() {
+        return informer.isWatching();
+    }
+
+    /**
+     * Waits until the condition is fulfilled by the watched Pods, the condition is evaluated once right away
+     * and then after every Pod event. As in {@link io.skodjob.kubetest4j.wait.Wait#until}, an exception thrown
+     * by the condition means "not yet", only {@link WaitAbortedException} ends the wait.
+     *
+     * @param condition   condition evaluated on all watched Pods
+     * @param timeoutMs   timeout in milliseconds
+     * @param measurement telemetry of the wait
+     * @return true if the condition was fulfilled, false if the timeout was reached
+     * @throws WaitAbortedException when the condition aborts the wait
+     */
+    boolean awaitCondition(Predicate<List<Pod>> condition, long timeoutMs, WaitTelemetry.Measurement measurement) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (true) {
+            long evaluated = version();
+            measurement.probe();
+            try {
+                if (condition.test(informer.getStore().list())) {
+                    return true;
+                }
+            } catch (WaitAbortedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                measurement.exception();
+                LOGGER.debug("Exception while evaluating Pods in namespace {}, waiting for the next event: {}",
+                    namespace, e.getMessage());
+            }
+            if (!awaitEvent(evaluated, deadline)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Waits until all watched Pods are in the phase and no Pod was disrupted for the whole quiet window.
+     *
+     * @param phase         phase all Pods must be in
+     * @param quietWindowMs how long the Pods must stay undisrupted
+     * @param timeoutMs     timeout in milliseconds
+     * @param measurement   telemetry of the wait
+     * @return true if the Pods are stable, false if the timeout was reached
+     */
+    boolean awaitQuiet(String phase, long quietWindowMs, long timeoutMs, WaitTelemetry.Measurement measurement) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        lastDisruption = System.currentTimeMillis();
+        while (true) {
+            long seen = version();
+            measurement.probe();
+            Optional<Pod> outOfPhase = informer.getStore().list().stream()
+                .filter(pod -> !phase.equals(phaseOf(pod)))
+                .findFirst();
+            if (outOfPhase.isPresent()) {
+                disrupted(String.format("Pod %s/%s is in phase %s instead of %s", namespace,
+                    outOfPhase.get().getMetadata().getName(), phaseOf(outOfPhase.get()), phase));
+            } else if (System.currentTimeMillis() - lastDisruption >= quietWindowMs) {
+                return true;
+            }
+            // a Pod out of phase is disrupting until an event brings it back to the phase
+            long wakeUp = outOfPhase.isPresent() ? deadline : Math.min(deadline, lastDisruption + quietWindowMs);
+            if (!awaitEvent(seen, wakeUp) && (wakeUp == deadline || Thread.currentThread().isInterrupted())) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void onAdd(Pod pod) {
+        String name = pod.getMetadata().getName();
+        PodState current = PodState.of(pod);
+        PodState previous = observed.put(name, current);
+        boolean known = !knownPods.add(Objects.requireNonNullElse(current.uid(), name));
+        if (synced && !known) {
+            disrupted(String.format("Pod %s/%s was added", namespace, name));
+        } else if (synced && previous != null && !previous.equals(current)) {
+            // a relist re-adds known Pods, only a change of their state is a disruption
+            disrupted(String.format("Pod %s/%s changed from %s to %s", namespace, name, previous, current));
+        }
+        signal();
+    }
+
+    @Override
+    public void onUpdate(Pod oldPod, Pod newPod) {
+        PodState current = PodState.of(newPod);
+        PodState previous = observed.put(newPod.getMetadata().getName(), current);
+        if (previous != null && !previous.equals(current)) {
+            disrupted(String.format("Pod %s/%s changed from %s to %s", namespace, newPod.getMetadata().getName(),
+                previous, current));
+        }
+        signal();
+    }
+
+    @Override
+    public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+        observed.remove(pod.getMetadata().getName());
+        disrupted(String.format("Pod %s/%s was deleted", namespace, pod.getMetadata().getName()));
+        signal();
+    }
+
+    @Override
+    public void close() {
+        informer.stop();
+    }
+
+    private void disrupted(String reason) {
+        LOGGER.debug("{}, restarting the stability window", reason);
+        lastDisruption = System.currentTimeMillis();
+    }
+
+    private long version() {
+        synchronized (lock) {
+            return version;
+        }
+    }
+
+    private void signal() {
+        synchronized (lock) {
+            version++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits for a Pod event after the {@code seen} version, or until the time
+     *
+     * @param seen  version the caller has already evaluated
+     * @param until time in milliseconds to wait until at most
+     * @return true if an event arrived, false if the time was reached or the thread was interrupted
+     */
+    private boolean awaitEvent(long seen, long until) {
+        synchronized (lock) {
+            long left;
+            while (version == seen && (left = until - System.currentTimeMillis()) > 0) {
+                try {
+                    lock.wait(left);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return version != seen;
+        }
+    }
+
+    private static String phaseOf(Pod pod) {
+        return pod.getStatus() == null ? null : pod.getStatus().getPhase();
+    }
+}
@@ -42,7 +42,7 @@ public class ResourceUtils {
         String kind,
         Class<T> resourceType
     ) {
-        GenericKubernetesResource foundGenericResource = KubeResourceManager.get().kubeClient()
+        GenericKubernetesResource foundGenericResource = KubeResourceManager.current().kubeClient()
             .getClient()
             .genericKubernetesResources(apiVersion, kind)
             .inNamespace(namespaceName)
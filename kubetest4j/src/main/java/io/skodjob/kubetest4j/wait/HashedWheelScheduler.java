@@ -0,0 +1,243 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel scheduling the probes of {@link Wait#untilAsync}.
+ * <p>
+ * The wheel is an array of buckets, each covering one tick. A scheduled probe is put into the bucket of its
+ * deadline together with the number of wheel rotations still to go. A single daemon thread advances the wheel
+ * once per tick and hands all probes due in that tick to the executor at once. Delays are rounded up to whole
+ * ticks, which is fine for waits polling in tens of milliseconds and more.
+ * <p>
+ * The thread is started with the first scheduled probe and stops once no probe has been waiting for
+ * the idle timeout, so an unused scheduler does not keep a thread ticking. The next scheduled probe starts
+ * it again.
+ */
+final class HashedWheelScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelScheduler.class);
+    private static final long DEFAULT_IDLE_MS = 1_000;
+
+    private final long tickNanos;
+    private final long idleTicks;
+    private final int mask;
+    private final Queue<Timeout>[] wheel;
+    private final Executor executor;
+    private final String threadName;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeWaiters = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long startNanos = System.nanoTime();
+    private long tick;
+
+    /**
+     * Creates the scheduler, its thread is started with the first scheduled task and stops after one second
+     * without scheduled tasks.
+     *
+     * @param tickMs     duration of one tick in milliseconds
+     * @param wheelSize  number of buckets, rounded up to a power of two
+     * @param executor   executor running the due probes
+     * @param threadName name of the thread advancing the wheel
+     */
+    HashedWheelScheduler(long tickMs, int wheelSize, Executor executor, String threadName) {
+        this(tickMs, wheelSize, DEFAULT_IDLE_MS, executor, threadName);
+    }
+
+    /**
+     * Creates the scheduler, its thread is started with the first scheduled task.
+     *
+     * @param tickMs     duration of one tick in milliseconds
+     * @param wheelSize  number of buckets, rounded up to a power of two
+     * @param idleMs     how long the thread keeps running without scheduled tasks in milliseconds
+     * @param executor   executor running the due probes
+     * @param threadName name of the thread advancing the wheel
+     */
+    @SuppressWarnings("unchecked")
+    HashedWheelScheduler(long tickMs, int wheelSize, long idleMs, Executor executor, String threadName) {
+        if (tickMs <= 0 || wheelSize <= 0 || idleMs < 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive and idleMs not negative");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.idleTicks = Math.max(1, idleMs / tickMs);
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.executor = executor;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Schedules the task to run on the executor after the delay.
+     *
+     * @param task    task to run
+     * @param delayMs delay in milliseconds
+     * @return handle allowing to cancel the task
+     */
+    Timeout schedule(Runnable task, long delayMs) {
+        Timeout timeout = new Timeout(task,
+            System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs)));
+        // counted and queued before the start, so a thread which is just stopping sees the task, see stopIfIdle
+        activeWaiters.incrementAndGet();
+        scheduled.add(timeout);
+        start();
+        return timeout;
+    }
+
+    /**
+     * Returns number of scheduled tasks which are neither due nor cancelled yet
+     *
+     * @return number of active waiters
+     */
+    int activeWaiters() {
+        return activeWaiters.get();
+    }
+
+    /**
+     * Returns whether the thread advancing the wheel is running
+     *
+     * @return true if running
+     */
+    boolean isRunning() {
+        return started.get();
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            Thread.ofPlatform().name(threadName).daemon().start(this::run);
+        }
+    }
+
+    private void run() {
+        // the wheel is empty whenever the thread starts, so it continues from the current time
+        tick = (System.nanoTime() - startNanos) / tickNanos;
+        long idle = 0;
+        while (true) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos;
+            while ((sleepNanos = deadline - (System.nanoTime() - startNanos)) > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+            transferScheduled();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+            if (activeWaiters.get() > 0) {
+                idle = 0;
+            } else if (++idle >= idleTicks && stopIfIdle()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the thread when there is no task to run. Tasks are counted before {@link #start()} is called,
+     * so a task scheduled concurrently is either seen here, or its {@link #start()} starts a new thread.
+     *
+     * @return true if the thread should exit
+     */
+    private boolean stopIfIdle() {
+        // without active waiters only cancelled tasks are left in the wheel
+        for (Queue<Timeout> bucket : wheel) {
+            bucket.clear();
+        }
+        started.set(false);
+        return activeWaiters.get() == 0 || !started.compareAndSet(false, true);
+    }
+
+    private void transferScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // round the deadline up, so the task never runs before its delay elapsed
+            long dueTick = Math.max((timeout.deadlineNanos + tickNanos - 1) / tickNanos - 1, tick);
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+                    activeWaiters.decrementAndGet();
+                    try {
+                        executor.execute(timeout.task);
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Cannot run scheduled probe: {}", e.getMessage());
+                    }
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    final class Timeout {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the task if it is not due yet. The cancelled task is dropped from the wheel
+         * the next time its bucket is visited.
+         *
+         * @return true if the task was cancelled, false if it already ran or was cancelled before
+         */
+        boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                activeWaiters.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Returns whether the task was cancelled
+         *
+         * @return true if cancelled
+         */
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+}
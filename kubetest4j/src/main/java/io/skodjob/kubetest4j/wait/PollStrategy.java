@@ -0,0 +1,117 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Strategy computing the delay between two probes of {@link Wait}.
+ * <p>
+ * Strategies are stateless, the wait passes the number of the finished probes and the previous delay,
+ * so one strategy can be shared by any number of concurrent waits. Presets are available in
+ * {@link io.skodjob.kubetest4j.KubeTestConstants}.
+ */
+public interface PollStrategy {
+
+    /**
+     * Returns the delay before the next probe.
+     *
+     * @param attempt         index of the probe that just finished, 0 for the delay after the first probe
+     * @param previousDelayMs previous delay in milliseconds, 0 for the delay after the first probe
+     * @return delay in milliseconds
+     */
+    long nextDelayMs(int attempt, long previousDelayMs);
+
+    /**
+     * Returns the longest delay the strategy ever returns.
+     *
+     * @return maximal delay in milliseconds
+     */
+    long maxDelayMs();
+
+    /**
+     * Polls with the same interval, the way {@link Wait} always did.
+     *
+     * @param intervalMs poll interval in milliseconds
+     * @return fixed poll strategy
+     */
+    static PollStrategy fixed(long intervalMs) {
+        requirePositive(intervalMs, "intervalMs");
+        return of(intervalMs, (attempt, previous) -> intervalMs);
+    }
+
+    /**
+     * Multiplies the delay after every probe until it reaches the cap.
+     *
+     * @param initialMs  first delay in milliseconds
+     * @param multiplier multiplier of the previous delay, at least 1
+     * @param capMs      maximal delay in milliseconds
+     * @return exponential poll strategy
+     */
+    static PollStrategy exponential(long initialMs, double multiplier, long capMs) {
+        requirePositive(initialMs, "initialMs");
+        requirePositive(capMs, "capMs");
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1, was " + multiplier);
+        }
+        return of(capMs, (attempt, previous) -> attempt == 0
+            ? Math.min(initialMs, capMs)
+            : Math.min(capMs, (long) Math.ceil(previous * multiplier)));
+    }
+
+    /**
+     * Picks a random delay between the base and three times the previous delay, limited by the cap.
+     * Waits started at the same time, f.e. for resources of one test, then do not probe the API server
+     * all at once.
+     *
+     * @param baseMs minimal delay in milliseconds
+     * @param capMs  maximal delay in milliseconds
+     * @return decorrelated jitter poll strategy
+     */
+    static PollStrategy decorrelatedJitter(long baseMs, long capMs) {
+        requirePositive(baseMs, "baseMs");
+        requirePositive(capMs, "capMs");
+        return of(capMs, (attempt, previous) -> {
+            long upper = Math.max(baseMs, previous * 3);
+            return Math.min(capMs, ThreadLocalRandom.current().nextLong(baseMs, upper + 1));
+        });
+    }
+
+    /**
+     * Probes quickly at first (50 ms, 100 ms, 250 ms, 500 ms, 1 s) and doubles the delay afterwards
+     * until it reaches the cap. Most resources are ready within a second, which is noticed right away,
+     * while slow resources are probed as rarely as with the fixed interval of the cap.
+     *
+     * @param capMs maximal delay in milliseconds
+     * @return fast-start poll strategy
+     */
+    static PollStrategy fastStart(long capMs) {
+        requirePositive(capMs, "capMs");
+        long[] ramp = {50, 100, 250, 500, 1000};
+        return of(capMs, (attempt, previous) -> Math.min(capMs,
+            attempt < ramp.length ? ramp[(int) attempt] : previous * 2));
+    }
+
+    private static PollStrategy of(long maxDelayMs, LongBinaryOperator delay) {
+        return new PollStrategy() {
+            @Override
+            public long nextDelayMs(int attempt, long previousDelayMs) {
+                return delay.applyAsLong(attempt, previousDelayMs);
+            }
+
+            @Override
+            public long maxDelayMs() {
+                return maxDelayMs;
+            }
+        };
+    }
+
+    private static void requirePositive(long value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, was " + value);
+        }
+    }
+}
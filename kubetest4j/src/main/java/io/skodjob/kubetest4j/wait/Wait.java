@@ -4,6 +4,7 @@
  */
 package io.skodjob.kubetest4j.wait;
 
+import io.skodjob.kubetest4j.enums.WaitOutcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,7 +14,6 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BooleanSupplier;
 
@@ -61,26 +61,73 @@ public class Wait {
      */
     public static void until(String description, long pollIntervalMs, long timeoutMs, BooleanSupplier ready,
                              Runnable onTimeout) {
+        until(description, PollStrategy.fixed(pollIntervalMs), timeoutMs, ready, onTimeout);
+    }
+
+    /**
+     * Checks if supplier {@code ready} is true, waiting between the polls as the {@code pollStrategy} tells.
+     * Once the wait timeout (specified by {@code timeoutMs} is reached and supplier wasn't true until that time,
+     * throws {@link WaitException}.
+     *
+     * @param description  information about on what we are waiting
+     * @param pollStrategy strategy computing the delay between the polls
+     * @param timeoutMs    timeout specified in milliseconds
+     * @param ready        {@link BooleanSupplier} containing code, which should be executed each poll,
+     *                     verifying readiness of the particular thing
+     */
+    public static void until(String description, PollStrategy pollStrategy, long timeoutMs, BooleanSupplier ready) {
+        until(description, pollStrategy, timeoutMs, ready, () -> {
+        });
+    }
+
+    /**
+     * Checks if supplier {@code ready} is true, waiting between the polls as the {@code pollStrategy} tells.
+     * Once the wait timeout (specified by {@code timeoutMs} is reached and supplier wasn't true until that time,
+     * runs the {@code onTimeout} (f.e. print of logs, showing the actual value that was checked inside {@code ready}),
+     * and finally throws {@link WaitException}. When {@code ready} throws {@link WaitAbortedException}, the wait
+     * is ended right away, {@code onTimeout} is run and the exception is rethrown.
+     *
+     * @param description  information about on what we are waiting
+     * @param pollStrategy strategy computing the delay between the polls
+     * @param timeoutMs    timeout specified in milliseconds
+     * @param ready        {@link BooleanSupplier} containing code, which should be executed each poll,
+     *                     verifying readiness of the particular thing
+     * @param onTimeout    {@link Runnable} executed once timeout is reached or the wait is aborted and
+     *                     before the {@link WaitException} is thrown.
+     */
+    public static void until(String description, PollStrategy pollStrategy, long timeoutMs, BooleanSupplier ready,
+                             Runnable onTimeout) {
         LOGGER.info("Waiting for: {}", description);
         long deadline = System.currentTimeMillis() + timeoutMs;
+        WaitTelemetry.Measurement measurement = WaitTelemetry.start(description, timeoutMs);
 
         String exceptionMessage = null;
         String previousExceptionMessage = null;
 
         // in case we are polling every 1s, we want to print exception after x tries, not on the first try
         // for minutes poll interval will 2 be enough
+        long pollIntervalMs = pollStrategy.maxDelayMs();
         int exceptionAppearanceCount = Duration.ofMillis(pollIntervalMs).toMinutes() > 0
             ? 2 : Math.max((int) (timeoutMs / pollIntervalMs) / 4, 2);
         int exceptionCount = 0;
+        int attempt = 0;
+        long delay = 0;
         int newExceptionAppearance = 0;
 
         StringWriter stackTraceError = new StringWriter();
 
         while (true) {
             boolean result;
+            measurement.probe();
             try {
                 result = ready.getAsBoolean();
+            } catch (WaitAbortedException e) {
+                LOGGER.error("Aborted waiting for: {} - {}", description, e.getMessage());
+                measurement.finish(WaitOutcome.ABORTED);
+                onTimeout.run();
+                throw e;
             } catch (Exception e) {
+                measurement.exception();
                 exceptionMessage = e.getMessage();
 
                 if (++exceptionCount == exceptionAppearanceCount && exceptionMessage != null
@@ -109,6 +156,7 @@ public class Wait {
             }
             long timeLeft = deadline - System.currentTimeMillis();
             if (result) {
+                measurement.finish(WaitOutcome.SUCCESS);
                 return;
             }
             if (timeLeft <= 0) {
@@ -126,16 +174,19 @@ public class Wait {
                         LOGGER.error(String.valueOf(stackTraceError));
                     }
                 }
+                measurement.finish(WaitOutcome.TIMEOUT);
                 onTimeout.run();
                 WaitException waitException = new WaitException("Timeout after " + timeoutMs
                     + " ms waiting for " + description);
                 LOGGER.error(waitException.getMessage(), waitException);
                 throw waitException;
             }
-            long sleepTime = Math.min(pollIntervalMs, timeLeft);
+            delay = pollStrategy.nextDelayMs(attempt++, delay);
+            long sleepTime = Math.min(delay, timeLeft);
             try {
                 Thread.sleep(sleepTime);
             } catch (InterruptedException e) {
+                measurement.finish(WaitOutcome.FAILED);
                 return;
             }
         }
@@ -143,6 +194,19 @@ public class Wait {
 
     private static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
+    // one wheel shared by all async waits, 10 ms ticks and ~5 s per rotation
+    private static final HashedWheelScheduler SCHEDULER =
+        new HashedWheelScheduler(10, 512, EXECUTOR, "kubetest4j-wait-timer");
+
+    /**
+     * Returns number of async waits waiting for their next poll
+     *
+     * @return number of active async waiters
+     */
+    public static int activeAsyncWaiters() {
+        return SCHEDULER.activeWaiters();
+    }
+
     /**
      * For every poll (happening once each {@code pollIntervalMs}) checks if supplier {@code ready} is true.
      * If yes, the wait is closed. Otherwise, waits another {@code pollIntervalMs} and tries again.
@@ -159,17 +223,41 @@ public class Wait {
      */
     public static CompletableFuture<Void> untilAsync(String description, long pollIntervalMs,
                                                      long timeoutMs, BooleanSupplier ready) {
+        return untilAsync(description, PollStrategy.fixed(pollIntervalMs), timeoutMs, ready);
+    }
+
+    /**
+     * Checks if supplier {@code ready} is true, waiting between the polls as the {@code pollStrategy} tells.
+     * The future is completed once the supplier is true, or completed exceptionally once the wait timeout
+     * (specified by {@code timeoutMs}) is reached or the supplier throws an exception. Cancelling the future
+     * cancels the next scheduled poll.
+     *
+     * @param description  information about on what we are waiting
+     * @param pollStrategy strategy computing the delay between the polls
+     * @param timeoutMs    timeout specified in milliseconds
+     * @param ready        {@link BooleanSupplier} containing code, which should be executed each poll,
+     *                     verifying readiness of the particular thing
+     * @return completable future for waiting
+     */
+    public static CompletableFuture<Void> untilAsync(String description, PollStrategy pollStrategy,
+                                                     long timeoutMs, BooleanSupplier ready) {
         LOGGER.info("Waiting for {}", description);
         long deadline = System.currentTimeMillis() + timeoutMs;
+        WaitTelemetry.Measurement measurement = WaitTelemetry.start(description, timeoutMs);
         CompletableFuture<Void> future = new CompletableFuture<>();
-        Executor delayed = CompletableFuture.delayedExecutor(pollIntervalMs, TimeUnit.MILLISECONDS, EXECUTOR);
-        Runnable r = new Runnable() {
+        var r = new Runnable() {
+            private int attempt;
+            private long delay;
+            private volatile HashedWheelScheduler.Timeout next;
+
             @Override
             public void run() {
                 boolean result;
+                measurement.probe();
                 try {
                     result = ready.getAsBoolean();
                 } catch (Exception e) {
+                    measurement.exception();
                     future.completeExceptionally(e);
                     return;
                 }
@@ -181,7 +269,12 @@ public class Wait {
                                 LOGGER.trace("{} not ready, will try again ({}ms till timeout)",
                                     description, timeLeft);
                             }
-                            delayed.execute(this);
+                            delay = pollStrategy.nextDelayMs(attempt++, delay);
+                            next = SCHEDULER.schedule(this, delay);
+                            if (future.isDone()) {
+                                // the future was cancelled while this poll was running
+                                cancel();
+                            }
                         } else {
                             future.completeExceptionally(new TimeoutException(
                                 String.format("Waiting for %s timeout %s exceeded", description, timeoutMs)));
@@ -191,8 +284,30 @@ public class Wait {
                     }
                 }
             }
+
+            private void cancel() {
+                HashedWheelScheduler.Timeout timeout = next;
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+            }
         };
+        future.whenComplete((result, throwable) -> {
+            r.cancel();
+            measurement.finish(outcomeOf(throwable));
+        });
         r.run();
         return future;
     }
+
+    private static WaitOutcome outcomeOf(Throwable throwable) {
+        if (throwable == null) {
+            return WaitOutcome.SUCCESS;
+        } else if (throwable instanceof TimeoutException) {
+            return WaitOutcome.TIMEOUT;
+        } else if (throwable instanceof WaitAbortedException) {
+            return WaitOutcome.ABORTED;
+        }
+        return WaitOutcome.FAILED;
+    }
 }
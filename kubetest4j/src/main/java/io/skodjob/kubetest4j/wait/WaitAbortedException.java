@@ -0,0 +1,22 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+/**
+ * An exception indicating that the waited condition can never be fulfilled, f.e. because Pods of the waited
+ * resource are in {@code CrashLoopBackOff}. Thrown from the polled code, it ends the wait right away
+ * instead of polling until the timeout.
+ */
+public class WaitAbortedException extends WaitException {
+
+    /**
+     * Constructs a new WaitAbortedException with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public WaitAbortedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import io.skodjob.kubetest4j.enums.WaitOutcome;
+
+/**
+ * Telemetry of one finished wait.
+ *
+ * @param description information about on what was waited
+ * @param kind        kind of the waited resource, {@link WaitTelemetry#GENERIC_KIND} for other waits
+ * @param test        test the wait ran in, {@code null} outside of tests
+ * @param durationMs  duration of the wait in milliseconds
+ * @param timeoutMs   timeout of the wait in milliseconds
+ * @param probes      number of evaluations of the waited condition
+ * @param exceptions  number of evaluations which failed with an exception
+ * @param outcome     how the wait ended
+ */
+public record WaitRecord(String description, String kind, String test, long durationMs, long timeoutMs,
+                         int probes, int exceptions, WaitOutcome outcome) {
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import io.skodjob.kubetest4j.enums.WaitOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * In-process registry of finished waits.
+ * <p>
+ * Every wait of {@link Wait} and every resource condition wait of the resource manager records its duration,
+ * number of probes and exceptions and its outcome. The {@link #report(int)} ranks the slowest waits per kind
+ * of the waited resource and per test, so timeouts can be tuned and the fixtures which dominate the suite time
+ * can be found.
+ * <p>
+ * Waits are aggregated as they finish, so the memory does not grow with the number of waits: per kind only
+ * the statistics, a sample of the durations for the percentiles and the {@value #SLOWEST_PER_KIND} slowest
+ * waits are kept, per test the total wait time and its slowest wait.
+ */
+public final class WaitTelemetry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitTelemetry.class);
+
+    /**
+     * Kind of waits which are not waiting for a particular resource
+     */
+    public static final String GENERIC_KIND = "generic";
+
+    /**
+     * Maximal number of the slowest waits kept per kind
+     */
+    public static final int SLOWEST_PER_KIND = 50;
+
+    // durations kept per kind for the percentiles, a uniform sample once there are more waits
+    private static final int SAMPLES_PER_KIND = 1_024;
+
+    // upper bounds of the duration histogram buckets, the last bucket is unbounded
+    private static final long[] HISTOGRAM_BOUNDS_MS = {1_000, 5_000, 30_000, 60_000, 300_000};
+    private static final String[] HISTOGRAM_LABELS = {"<1s", "<5s", "<30s", "<1m", "<5m", ">=5m"};
+
+    private static final Map<String, KindStats> KINDS = new ConcurrentHashMap<>();
+    private static final Map<String, TestStats> TESTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> KIND = new ThreadLocal<>();
+    private static final AtomicReference<Supplier<String>> TEST_RESOLVER = new AtomicReference<>();
+
+    private WaitTelemetry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Sets the resolver of the test running on the current thread, the junit extension resolves
+     * the test class and method. The resolver is set only once, later calls are ignored, so it has to resolve
+     * the test of the calling thread instead of capturing a particular test.
+     *
+     * @param resolver supplier returning name of the current test or {@code null}
+     * @return true if the resolver was set, false if another resolver is set already
+     */
+    public static boolean setTestResolver(Supplier<String> resolver) {
+        return resolver != null && TEST_RESOLVER.compareAndSet(null, resolver);
+    }
+
+    /**
+     * Removes the resolver of the running test
+     */
+    static void resetTestResolver() {
+        TEST_RESOLVER.set(null);
+    }
+
+    /**
+     * Runs the action with waits recorded under the kind, f.e. polling of a resource done by {@link Wait}.
+     *
+     * @param kind   kind of the waited resource
+     * @param action action doing the wait
+     */
+    public static void withKind(String kind, Runnable action) {
+        String previous = KIND.get();
+        KIND.set(kind);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                KIND.remove();
+            } else {
+                KIND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Starts measuring a wait of the kind set by {@link #withKind(String, Runnable)}.
+     *
+     * @param description information about on what we are waiting
+     * @param timeoutMs   timeout of the wait in milliseconds
+     * @return measurement which records the wait once finished
+     */
+    public static Measurement start(String description, long timeoutMs) {
+        String kind = KIND.get();
+        return start(description, kind == null ? GENERIC_KIND : kind, timeoutMs);
+    }
+
+    /**
+     * Starts measuring a wait.
+     *
+     * @param description information about on what we are waiting
+     * @param kind        kind of the waited resource
+     * @param timeoutMs   timeout of the wait in milliseconds
+     * @return measurement which records the wait once finished
+     */
+    public static Measurement start(String description, String kind, long timeoutMs) {
+        return new Measurement(description, kind, resolveTest(), timeoutMs);
+    }
+
+    /**
+     * Returns number of recorded waits
+     *
+     * @return number of waits of all kinds
+     */
+    public static long waitCount() {
+        return KINDS.values().stream().mapToLong(KindStats::waits).sum();
+    }
+
+    /**
+     * Returns the slowest recorded waits of the kind
+     *
+     * @param kind kind of the waited resource
+     * @return at most {@link #SLOWEST_PER_KIND} waits, the slowest first
+     */
+    public static List<WaitRecord> slowest(String kind) {
+        KindStats stats = KINDS.get(kind);
+        return stats == null ? List.of() : stats.slowest();
+    }
+
+    /**
+     * Removes all recorded waits
+     */
+    public static void clear() {
+        KINDS.clear();
+        TESTS.clear();
+    }
+
+    /**
+     * Renders the report of the recorded waits: statistics and duration histogram per kind, the slowest waits
+     * per kind and the tests with the longest total wait time.
+     *
+     * @param limit maximal number of waits listed per kind and of listed tests
+     * @return report in plain text
+     */
+    public static String report(int limit) {
+        List<KindStats> kinds = KINDS.values().stream()
+            .map(KindStats::snapshot)
+            .sorted(Comparator.comparingLong(KindStats::totalMs).reversed())
+            .toList();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Wait report: %d wait(s), %d ms in total%n%n",
+            kinds.stream().mapToLong(KindStats::waits).sum(), kinds.stream().mapToLong(KindStats::totalMs).sum()));
+
+        report.append(String.format("%-30s %6s %10s %8s %8s %8s %8s %8s %8s",
+            "KIND", "WAITS", "TOTAL[ms]", "P50[ms]", "P95[ms]", "MAX[ms]", "TIMEOUT", "ABORTED", "FAILED"));
+        for (String label : HISTOGRAM_LABELS) {
+            report.append(String.format(" %6s", label));
+        }
+        report.append(System.lineSeparator());
+        for (KindStats stats : kinds) {
+            long[] durations = stats.sortedSamples();
+            report.append(String.format("%-30s %6d %10d %8d %8d %8d %8d %8d %8d", stats.kind, stats.waits,
+                stats.totalMs, percentile(durations, 0.5), percentile(durations, 0.95), stats.maxMs,
+                stats.outcomes[WaitOutcome.TIMEOUT.ordinal()], stats.outcomes[WaitOutcome.ABORTED.ordinal()],
+                stats.outcomes[WaitOutcome.FAILED.ordinal()]));
+            for (long bucket : stats.histogram) {
+                report.append(String.format(" %6d", bucket));
+            }
+            report.append(System.lineSeparator());
+        }
+
+        report.append(String.format("%nSlowest waits per kind%n"));
+        for (KindStats stats : kinds) {
+            report.append(String.format("%s%n", stats.kind));
+            stats.slowest().stream()
+                .limit(limit)
+                .forEach(wait -> report.append(String.format(
+                    "  %8d ms (%d%% of timeout, %d probe(s), %d exception(s), %s) %s [%s]%n",
+                    wait.durationMs(), wait.timeoutMs() > 0 ? wait.durationMs() * 100 / wait.timeoutMs() : 0,
+                    wait.probes(), wait.exceptions(), wait.outcome(), wait.description(), wait.test())));
+        }
+
+        report.append(String.format("%nTests with the longest wait time%n"));
+        TESTS.values().stream()
+            .map(TestStats::snapshot)
+            .sorted(Comparator.comparingLong(TestStats::totalMs).reversed())
+            .limit(limit)
+            .forEach(stats -> report.append(String.format("  %8d ms in %d wait(s) %s, slowest %d ms %s%n",
+                stats.totalMs, stats.waits, stats.test, stats.slowest.durationMs(),
+                stats.slowest.description())));
+        return report.toString();
+    }
+
+    private static String resolveTest() {
+        Supplier<String> resolver = TEST_RESOLVER.get();
+        if (resolver == null) {
+            return null;
+        }
+        try {
+            return resolver.get();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void record(WaitRecord wait) {
+        LOGGER.trace("Finished wait: {}", wait);
+        KINDS.computeIfAbsent(wait.kind(), KindStats::new).add(wait);
+        if (wait.test() != null) {
+            TESTS.computeIfAbsent(wait.test(), TestStats::new).add(wait);
+        }
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[Math.max((int) Math.ceil(quantile * sorted.length) - 1, 0)];
+    }
+
+    /**
+     * Aggregated waits of one kind
+     */
+    private static final class KindStats {
+        private final String kind;
+        private final long[] outcomes = new long[WaitOutcome.values().length];
+        private final long[] histogram = new long[HISTOGRAM_BOUNDS_MS.length + 1];
+        private final long[] samples;
+        // min-heap, the fastest of the kept waits is replaced first
+        private final PriorityQueue<WaitRecord> slowest;
+        private long waits;
+        private long totalMs;
+        private long maxMs;
+
+        private KindStats(String kind) {
+            this.kind = kind;
+            this.samples = new long[SAMPLES_PER_KIND];
+            this.slowest = new PriorityQueue<>(Comparator.comparingLong(WaitRecord::durationMs));
+        }
+
+        private KindStats(KindStats other) {
+            this.kind = other.kind;
+            System.arraycopy(other.outcomes, 0, outcomes, 0, outcomes.length);
+            System.arraycopy(other.histogram, 0, histogram, 0, histogram.length);
+            this.samples = Arrays.copyOf(other.samples, (int) Math.min(other.waits, SAMPLES_PER_KIND));
+            this.slowest = new PriorityQueue<>(other.slowest);
+            this.waits = other.waits;
+            this.totalMs = other.totalMs;
+            this.maxMs = other.maxMs;
+        }
+
+        private synchronized void add(WaitRecord wait) {
+            long duration = wait.durationMs();
+            // reservoir sampling keeps every wait in the sample with the same probability
+            if (waits < SAMPLES_PER_KIND) {
+                samples[(int) waits] = duration;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(waits + 1);
+                if (slot < SAMPLES_PER_KIND) {
+                    samples[(int) slot] = duration;
+                }
+            }
+            waits++;
+            totalMs += duration;
+            maxMs = Math.max(maxMs, duration);
+            outcomes[wait.outcome().ordinal()]++;
+            int bucket = 0;
+            while (bucket < HISTOGRAM_BOUNDS_MS.length && duration >= HISTOGRAM_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            histogram[bucket]++;
+            slowest.add(wait);
+            if (slowest.size() > SLOWEST_PER_KIND) {
+                slowest.poll();
+            }
+        }
+
+        private synchronized KindStats snapshot() {
+            return new KindStats(this);
+        }
+
+        private synchronized long waits() {
+            return waits;
+        }
+
+        private long totalMs() {
+            return totalMs;
+        }
+
+        private synchronized List<WaitRecord> slowest() {
+            List<WaitRecord> result = new ArrayList<>(slowest);
+            result.sort(Comparator.comparingLong(WaitRecord::durationMs).reversed());
+            return result;
+        }
+
+        private long[] sortedSamples() {
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /**
+     * Aggregated waits of one test
+     */
+    private static final class TestStats {
+        private final String test;
+        private long waits;
+        private long totalMs;
+        private WaitRecord slowest;
+
+        private TestStats(String test) {
+            this.test = test;
+        }
+
+        private synchronized void add(WaitRecord wait) {
+            waits++;
+            totalMs += wait.durationMs();
+            if (slowest == null || wait.durationMs() > slowest.durationMs()) {
+                slowest = wait;
+            }
+        }
+
+        private synchronized TestStats snapshot() {
+            TestStats copy = new TestStats(test);
+            copy.waits = waits;
+            copy.totalMs = totalMs;
+            copy.slowest = slowest;
+            return copy;
+        }
+
+        private long totalMs() {
+            return totalMs;
+        }
+    }
+
+    /**
+     * Running measurement of one wait
+     */
+    public static final class Measurement {
+        private final String description;
+        private final String kind;
+        private final String test;
+        private final long timeoutMs;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger probes = new AtomicInteger();
+        private final AtomicInteger exceptions = new AtomicInteger();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Measurement(String description, String kind, String test, long timeoutMs) {
+            this.description = description;
+            this.kind = kind;
+            this.test = test;
+            this.timeoutMs = timeoutMs;
+        }
+
+        /**
+         * Counts an evaluation of the waited condition
+         */
+        public void probe() {
+            probes.incrementAndGet();
+        }
+
+        /**
+         * Counts an evaluation of the waited condition which failed with an exception
+         */
+        public void exception() {
+            exceptions.incrementAndGet();
+        }
+
+        /**
+         * Records the finished wait, only the first call records.
+         *
+         * @param outcome how the wait ended
+         */
+        public void finish(WaitOutcome outcome) {
+            if (finished.compareAndSet(false, true)) {
+                WaitRecord wait = new WaitRecord(description, kind, test,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), timeoutMs, probes.get(),
+                    exceptions.get(), outcome);
+                record(wait);
+            }
+        }
+    }
+}
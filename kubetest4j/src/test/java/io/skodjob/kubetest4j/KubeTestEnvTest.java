@@ -0,0 +1,27 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j;
+
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.enums.ShardingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestVisualSeparator
+class KubeTestEnvTest {
+
+    @Test
+    void testShardingStrategyIsParsedLeniently() {
+        assertEquals(ShardingStrategy.ROUND_ROBIN, KubeTestEnv.parseShardingStrategy("round_robin"));
+        assertEquals(ShardingStrategy.LEAST_LOADED, KubeTestEnv.parseShardingStrategy(" Least-Loaded "));
+        assertEquals(ShardingStrategy.NONE, KubeTestEnv.parseShardingStrategy(""));
+    }
+
+    @Test
+    void testUnknownShardingStrategyDisablesSharding() {
+        assertEquals(ShardingStrategy.NONE, KubeTestEnv.parseShardingStrategy("round-robbin"));
+    }
+}
@@ -143,6 +143,33 @@ class KubeClientTest {
         assertFalse(cl.namespaceExists("test-create"));
     }
 
+    @Test
+    void testServerSideApply() {
+        KubeClient cl = KubeClient.fromUrlAndToken(kubernetesClient.getConfiguration().getMasterUrl(),
+            kubernetesClient.getConfiguration().getOauthToken());
+
+        Namespace ns = new NamespaceBuilder()
+            .withNewMetadata()
+            .withName("test-apply")
+            .endMetadata()
+            .build();
+
+        // Test apply creates missing resource
+        cl.serverSideApply(Collections.singletonList(ns), r -> r, false);
+        assertTrue(cl.namespaceExists("test-apply"));
+
+        // Test apply updates existing resource
+        cl.serverSideApply(Collections.singletonList(ns), r -> {
+            r.getMetadata().setLabels(Collections.singletonMap("applied", "true"));
+            return r;
+        }, true);
+        assertEquals("true", kubernetesClient.namespaces().withName("test-apply").get()
+            .getMetadata().getLabels().get("applied"));
+
+        cl.delete(Collections.singletonList(ns));
+        assertFalse(cl.namespaceExists("test-apply"));
+    }
+
     @Test
     void testListPods() {
         KubeClient cl = KubeClient.fromUrlAndToken(kubernetesClient.getConfiguration().getMasterUrl(),
@@ -9,9 +9,14 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Namespace;
 import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSetBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
@@ -21,8 +26,13 @@ import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
 import io.skodjob.kubetest4j.helper.NamespaceType;
 import io.skodjob.kubetest4j.helper.TestLoggerAppender;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
+import io.skodjob.kubetest4j.resources.MultiContextException;
+import io.skodjob.kubetest4j.resources.ResourceCondition;
+import io.skodjob.kubetest4j.resources.ResourceFutures;
 import io.skodjob.kubetest4j.resources.ResourceItem;
 import io.skodjob.kubetest4j.utils.LoggerUtils;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import io.skodjob.kubetest4j.wait.WaitException;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LogEvent;
@@ -43,11 +53,13 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -91,6 +103,26 @@ class KubeResourceManagerTest {
         assertEquals(0, KubeResourceManager.get().getCurrentResources().size());
     }
 
+    @Test
+    void testDeferredDeletion() {
+        KubeResourceManager manager = KubeResourceManager.get();
+        manager.createResourceWithWait(new ConfigMapBuilder()
+            .withNewMetadata().withName("deferred-cm").withNamespace("default").endMetadata().build());
+
+        CompletableFuture<Void> teardown = manager.deleteResourcesDeferred();
+        assertEquals(0, manager.getCurrentResources().size());
+
+        // the same name waits for the deferred deletion instead of colliding with it
+        manager.createResourceWithWait(new ConfigMapBuilder()
+            .withNewMetadata().withName("deferred-cm").withNamespace("default").endMetadata().build());
+        assertTrue(teardown.isDone());
+        assertDoesNotThrow(manager::awaitDeferredDeletions);
+
+        assertNotNull(manager.kubeClient().getClient().configMaps().inNamespace("default")
+            .withName("deferred-cm").get());
+        assertEquals(1, manager.getCurrentResources().size());
+    }
+
     @Test
     void testUpdateResource() {
         Namespace ns = new NamespaceBuilder().withNewMetadata().withName("test3").endMetadata().build();
@@ -500,6 +532,42 @@ class KubeResourceManagerTest {
             "Should reject negative values");
     }
 
+    @Test
+    void testSetMaxConcurrentProbes() {
+        int original = KubeResourceManager.get().getMaxConcurrentProbes();
+        assertEquals(KubeTestConstants.DEFAULT_MAX_CONCURRENT_PROBES, original);
+
+        KubeResourceManager.get().setMaxConcurrentProbes(10);
+        assertEquals(10, KubeResourceManager.get().getMaxConcurrentProbes());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> KubeResourceManager.get().setMaxConcurrentProbes(0),
+            "Should reject zero");
+
+        // Restore original value
+        KubeResourceManager.get().setMaxConcurrentProbes(original);
+    }
+
+    @Test
+    void testPendingWaitDoesNotBlockMutations() {
+        int original = KubeResourceManager.get().getMaxConcurrentOperations();
+        KubeResourceManager.get().setMaxConcurrentOperations(1);
+
+        ConfigMap neverCreated = new ConfigMapBuilder().withNewMetadata()
+            .withName("never-created").withNamespace("default").endMetadata().build();
+        CompletableFuture<Void> pendingWait = CompletableFuture.runAsync(() ->
+            assertThrows(WaitException.class, () -> KubeResourceManager.get().waitResourceCondition(neverCreated,
+                new ResourceCondition<>(Objects::nonNull, "created"), 10_000)));
+
+        // single operation permit must stay available for mutations while the wait is in progress
+        Namespace ns = new NamespaceBuilder().withNewMetadata().withName("probe-test").endMetadata().build();
+        KubeResourceManager.get().createResourceWithWait(ns);
+        assertFalse(pendingWait.isDone());
+
+        KubeResourceManager.get().setMaxConcurrentOperations(original);
+        pendingWait.join();
+    }
+
     @Test
     void testDeleteResourcesWithSemaphoreThrottling() {
         // Set a small concurrency limit to verify semaphore is used
@@ -552,43 +620,215 @@ class KubeResourceManagerTest {
     }
 
     @Test
-    void testPushToStack() throws Exception {
+    void testPushToStack() {
         // Create a test resource item
         Namespace ns = new NamespaceBuilder().withNewMetadata().withName("stack-test").endMetadata().build();
         ResourceItem<Namespace> resourceItem = new ResourceItem<>(() -> {
             // Mock delete action
         }, ns);
 
-        // Get initial stack size
-        Field storedResourcesField = KubeResourceManager.class.getDeclaredField("STORED_RESOURCES");
-        storedResourcesField.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        Map<String, Map<String, Stack<ResourceItem<?>>>> storedResources =
-            (Map<String, Map<String, Stack<ResourceItem<?>>>>) storedResourcesField.get(null);
+        int initialSize = KubeResourceManager.get().getCurrentResources().size();
 
-        // Get the current cluster context using reflection
+        // Test pushToStack method
+        KubeResourceManager.get().pushToStack(resourceItem);
+
+        // Verify the item was added as the last stored resource
+        List<HasMetadata> resources = KubeResourceManager.get().getCurrentResources();
+        assertEquals(initialSize + 1, resources.size(), "Stored resources should increase by 1");
+        assertEquals(ns, resources.get(resources.size() - 1), "The added item should match the original");
+
+        // Verify the item can be removed again
+        KubeResourceManager.get().removeFromStack(ns);
+        assertEquals(initialSize, KubeResourceManager.get().getCurrentResources().size());
+    }
+
+    @Test
+    void testBulkTeardownDeletesLabelledResources() {
+        KubeResourceManager.get().setBulkTeardown(true);
+        try {
+            ConfigMap[] configMaps = new ConfigMap[3];
+            for (int i = 0; i < configMaps.length; i++) {
+                configMaps[i] = new ConfigMapBuilder()
+                    .withNewMetadata().withName("bulk-" + i).withNamespace("bulk").endMetadata().build();
+            }
+            KubeResourceManager.get().createResourceWithWait(configMaps);
+
+            ConfigMap created = KubeResourceManager.get().kubeClient().getClient().configMaps()
+                .inNamespace("bulk").withName("bulk-0").get();
+            assertEquals(KubeResourceManager.get().getRunId(),
+                created.getMetadata().getLabels().get(KubeTestConstants.RUN_ID_LABEL));
+            assertEquals(KubeResourceManager.get().getTestId(),
+                created.getMetadata().getLabels().get(KubeTestConstants.TEST_ID_LABEL));
+            // the objects of the caller are not mutated
+            assertNull(configMaps[0].getMetadata().getLabels());
+
+            KubeResourceManager.get().deleteResources();
+
+            assertTrue(KubeResourceManager.get().kubeClient().getClient().configMaps()
+                .inNamespace("bulk").list().getItems().isEmpty());
+            assertEquals(0, KubeResourceManager.get().getCurrentResources().size());
+        } finally {
+            KubeResourceManager.get().setBulkTeardown(false);
+        }
+    }
+
+    @Test
+    void testCreateResourceAsyncReturnsFutures() {
+        ResourceFutures<Namespace> namespaces = KubeResourceManager.get().createResourceAsync(
+            new NamespaceBuilder().withNewMetadata().withName("async-1").endMetadata().build(),
+            new NamespaceBuilder().withNewMetadata().withName("async-2").endMetadata().build());
+        assertEquals(2, namespaces.futures().size());
+
+        List<ConfigMap> configMaps = namespaces.thenCreate(() -> KubeResourceManager.get().createResourceAsync(
+            new ConfigMapBuilder().withNewMetadata().withName("async-cm").withNamespace("async-1").endMetadata()
+                .build())).join();
+
+        assertEquals("async-cm", configMaps.getFirst().getMetadata().getName());
+        assertEquals(2, namespaces.join().size());
+        assertFalse(namespaces.anyFailed().join());
+        assertNotNull(KubeResourceManager.get().kubeClient().getClient().configMaps()
+            .inNamespace("async-1").withName("async-cm").get());
+        assertEquals(3, KubeResourceManager.get().getCurrentResources().size());
+    }
+
+    @Test
+    void testContextIsPropagatedToWorkers() throws Exception {
+        KubeResourceManager manager = KubeResourceManager.get();
+        ConfigMap configMap = new ConfigMapBuilder()
+            .withNewMetadata().withName("worker-cm").withNamespace("worker").endMetadata().build();
+
+        CompletableFuture.runAsync(() -> manager.pushToStack(configMap), manager.getExecutor()).join();
+        assertTrue(manager.getCurrentResources().contains(configMap),
+            "Resource pushed from a worker should be stored for the current test");
+
+        // a worker thread starts on the default context, only propagation brings another one; the context is
+        // selected directly on the thread local, so no second cluster has to be configured for the whole run
         Field contextField = KubeResourceManager.class.getDeclaredField("CURRENT_CLUSTER_CONTEXT");
         contextField.setAccessible(true);
         @SuppressWarnings("unchecked")
-        ThreadLocal<String> clusterContextTL = (ThreadLocal<String>) contextField.get(null);
-        String clusterContext = clusterContextTL.get();
-        String testName = KubeResourceManager.get().getTestContext().getDisplayName();
+        ThreadLocal<String> clusterContext = (ThreadLocal<String>) contextField.get(null);
+        Field instancesField = KubeResourceManager.class.getDeclaredField("CONTEXT_INSTANCES");
+        instancesField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<String, KubeResourceManager> instances = (Map<String, KubeResourceManager>) instancesField.get(null);
+
+        clusterContext.set("propagated");
+        try {
+            CompletableFuture<KubeResourceManager> current =
+                CompletableFuture.supplyAsync(KubeResourceManager::current, manager.getExecutor());
+            assertEquals("propagated", current.join().getContextId());
+        } finally {
+            clusterContext.remove();
+            instances.remove("propagated");
+        }
+        assertEquals(manager, CompletableFuture.supplyAsync(KubeResourceManager::current, manager.getExecutor())
+            .join());
 
-        int initialSize = storedResources
-            .computeIfAbsent(clusterContext, c -> new ConcurrentHashMap<>())
-            .computeIfAbsent(testName, t -> new Stack<>())
-            .size();
+        Thread thread = Thread.ofVirtual().start(manager.withCurrentContext(() -> manager.removeFromStack(configMap)));
+        thread.join();
+        assertFalse(manager.getCurrentResources().contains(configMap));
+    }
 
-        // Test pushToStack method
-        KubeResourceManager.get().pushToStack(resourceItem);
+    @Test
+    void testFanOutToContexts() {
+        List<String> contexts = List.of(KubeTestConstants.DEFAULT_CONTEXT_NAME);
+        Namespace ns = new NamespaceBuilder().withNewMetadata().withName("fan-out").endMetadata().build();
+
+        KubeResourceManager.createResourceWithWaitOnContexts(contexts, ns);
+        KubeResourceManager.waitResourceConditionOnContexts(contexts, ns, new ResourceCondition<>(Objects::nonNull,
+            "existence"));
+        assertNotNull(KubeResourceManager.get().kubeClient().getClient().namespaces().withName("fan-out").get());
+        assertEquals(1, KubeResourceManager.get().getCurrentResources().size());
 
-        // Verify the item was added to the stack
-        int newSize = storedResources.get(clusterContext).get(testName).size();
-        assertEquals(initialSize + 1, newSize, "Stack size should increase by 1");
+        KubeResourceManager.deleteResourceWithWaitOnContexts(contexts, ns);
+        assertNull(KubeResourceManager.get().kubeClient().getClient().namespaces().withName("fan-out").get());
+        assertEquals(0, KubeResourceManager.get().getCurrentResources().size());
+    }
+
+    @Test
+    void testFanOutAggregatesFailures() {
+        MultiContextException ex = assertThrows(MultiContextException.class, () ->
+            KubeResourceManager.fanOutToAllContexts(manager -> {
+                throw new IllegalStateException("broken cluster");
+            }));
+
+        assertEquals("broken cluster",
+            ex.getFailures().get(KubeTestConstants.DEFAULT_CONTEXT_NAME).getMessage());
+        assertThrows(IllegalArgumentException.class, () ->
+            KubeResourceManager.fanOut(List.of("non-existing-context"), manager -> { }));
+    }
+
+    @Test
+    void testFanOutValidatesAndDeduplicatesContexts() {
+        AtomicInteger runs = new AtomicInteger();
+        assertThrows(IllegalArgumentException.class, () -> KubeResourceManager.fanOut(
+            List.of(KubeTestConstants.DEFAULT_CONTEXT_NAME, "non-existing-context"),
+            manager -> runs.incrementAndGet()));
+        assertEquals(0, runs.get());
+
+        KubeResourceManager.fanOut(List.of(KubeTestConstants.DEFAULT_CONTEXT_NAME,
+            KubeTestConstants.DEFAULT_CONTEXT_NAME.toUpperCase()), manager -> runs.incrementAndGet());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testAbortPredicateFailsWaitFast() {
+        ConfigMap configMap = new ConfigMapBuilder().withNewMetadata()
+            .withName("aborted").withNamespace("default").endMetadata()
+            .addToData("state", "failed").build();
+        kubernetesClient.resource(configMap).create();
+
+        long start = System.currentTimeMillis();
+        WaitAbortedException ex = assertThrows(WaitAbortedException.class, () ->
+            KubeResourceManager.get().waitResourceCondition(configMap,
+                new ResourceCondition<ConfigMap>(cm -> false, "success")
+                    .withAbortPredicate(cm -> "failed".equals(cm.getData().get("state"))), 60_000));
+
+        assertTrue(ex.getMessage().contains("ConfigMap/aborted"));
+        assertTrue(System.currentTimeMillis() - start < 30_000);
+    }
 
-        // Verify the correct item was added
-        ResourceItem<?> addedItem = storedResources.get(clusterContext).get(testName).peek();
-        assertEquals(resourceItem, addedItem, "The added item should match the original");
+    @Test
+    void testCrashLoopingPodFailsWaitFast() {
+        Deployment deployment = kubernetesClient.resource(new DeploymentBuilder().withNewMetadata()
+            .withName("crashing").withNamespace("default").endMetadata().build()).create();
+        ReplicaSet replicaSet = kubernetesClient.resource(new ReplicaSetBuilder().withNewMetadata()
+            .withName("crashing-rs").withNamespace("default")
+            .addNewOwnerReference().withApiVersion("apps/v1").withKind("Deployment").withName("crashing")
+            .withUid(deployment.getMetadata().getUid()).withController(true).endOwnerReference()
+            .endMetadata().build()).create();
+        Pod pod = new PodBuilder().withNewMetadata()
+            .withName("crashing-rs-1").withNamespace("default")
+            .addNewOwnerReference().withApiVersion("apps/v1").withKind("ReplicaSet").withName("crashing-rs")
+            .withUid(replicaSet.getMetadata().getUid()).withController(true).endOwnerReference()
+            .endMetadata()
+            .withNewStatus().addNewContainerStatus().withName("app")
+            .withNewState().withNewWaiting().withReason("CrashLoopBackOff").withMessage("back-off 5m0s")
+            .endWaiting().endState().endContainerStatus().endStatus()
+            .build();
+        Pod created = kubernetesClient.resource(pod).create();
+        kubernetesClient.resource(new PodBuilder(created).withStatus(pod.getStatus()).build()).updateStatus();
+
+        // fail-fast waits are opt-in, by default the wait runs until the timeout
+        assertFalse(KubeResourceManager.get().isFailFastWaits());
+        assertThrows(WaitException.class, () -> KubeResourceManager.get().waitResourceCondition(deployment,
+            new ResourceCondition<>(d -> false, "readiness"), 1_000));
+
+        KubeResourceManager.get().setFailFastWaits(true);
+        try {
+            WaitAbortedException ex = assertThrows(WaitAbortedException.class, () ->
+                KubeResourceManager.get().waitResourceCondition(deployment,
+                    new ResourceCondition<>(d -> false, "readiness"), 60_000));
+            assertTrue(ex.getMessage().contains("CrashLoopBackOff"));
+        } finally {
+            KubeResourceManager.get().setFailFastWaits(false);
+        }
     }
 
+    @Test
+    void testDeletionConditionIsFlaggedExplicitly() {
+        assertTrue(ResourceCondition.<ConfigMap>deletion().waitsForDeletion());
+        assertTrue(ResourceCondition.<ConfigMap>deletion().withAbortPredicate(cm -> false).waitsForDeletion());
+        assertFalse(new ResourceCondition<ConfigMap>(cm -> false, "deletion").waitsForDeletion());
+    }
 }
@@ -14,6 +14,8 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -36,6 +38,28 @@ class TestEnvironmentVariablesTest {
         assertNotNull(MyEnvs.CLUSTER_CONFIGS.get("stage"));
     }
 
+    @Test
+    void testKubernetesContextConcurrencyLimits() {
+        assertEquals(20, MyEnvs.CLUSTER_CONFIGS.get("primary").maxConcurrentOperations());
+        assertNull(MyEnvs.CLUSTER_CONFIGS.get("primary").maxConcurrentProbes());
+        assertEquals(5, MyEnvs.CLUSTER_CONFIGS.get("stage").maxConcurrentOperations());
+        assertEquals(50, MyEnvs.CLUSTER_CONFIGS.get("stage").maxConcurrentProbes());
+        assertNull(MyEnvs.CLUSTER_CONFIGS.get("prod").maxConcurrentOperations());
+    }
+
+    @Test
+    void testInvalidConcurrencyLimitIsRejected() {
+        IllegalArgumentException notNumber = assertThrows(IllegalArgumentException.class,
+            () -> new TestEnvironmentVariables(Map.of("KUBE_MAX_CONCURRENT_OPERATIONS", "many"))
+                .discoverClusterConfigs());
+        assertTrue(notNumber.getMessage().contains("KUBE_MAX_CONCURRENT_OPERATIONS"));
+
+        IllegalArgumentException notPositive = assertThrows(IllegalArgumentException.class,
+            () -> new TestEnvironmentVariables(Map.of("KUBECONFIG_PROD", "/user/home/kornys.config",
+                "KUBE_MAX_CONCURRENT_PROBES_PROD", "0")).discoverClusterConfigs());
+        assertTrue(notPositive.getMessage().contains("KUBE_MAX_CONCURRENT_PROBES_PROD"));
+    }
+
     public static class MyEnvs {
         private static final Map<String, String> ENVS_MAP = Map.of(
             "MY_ENV", "this",
@@ -43,7 +67,10 @@ class TestEnvironmentVariablesTest {
             "KUBECONFIG", "/user/home/kornys.config",
             "KUBECONFIG_PROD", "/user/home/kornys.config",
             "KUBE_URL_STAGE", "https://pepa.com:6443",
-            "KUBE_TOKEN_STAGE", "TOKEN"
+            "KUBE_TOKEN_STAGE", "TOKEN",
+            "KUBE_MAX_CONCURRENT_OPERATIONS", "20",
+            "KUBE_MAX_CONCURRENT_OPERATIONS_STAGE", "5",
+            "KUBE_MAX_CONCURRENT_PROBES_STAGE", "50"
         );
 
         public static final TestEnvironmentVariables ENVIRONMENT_VARIABLES = new TestEnvironmentVariables(ENVS_MAP);
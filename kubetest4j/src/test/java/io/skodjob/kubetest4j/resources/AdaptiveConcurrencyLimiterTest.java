@@ -0,0 +1,175 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.wait.Wait;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class AdaptiveConcurrencyLimiterTest {
+
+    private static void fail(AdaptiveConcurrencyLimiter limiter, int code) {
+        assertThrows(KubernetesClientException.class, () -> limiter.run(() -> {
+            throw new KubernetesClientException("failure", code, null);
+        }));
+    }
+
+    @Test
+    void testLimitDecreasesOnOverload() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 1000);
+
+        fail(limiter, 429);
+        assertEquals(8, limiter.currentLimit());
+        fail(limiter, 503);
+        assertEquals(4, limiter.currentLimit());
+
+        // client errors do not signal overload
+        fail(limiter, 404);
+        assertEquals(4, limiter.currentLimit());
+    }
+
+    /**
+     * Runs as many concurrent calls as the current limit allows, all of them are in flight at once
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        int calls = limiter.currentLimit();
+        CountDownLatch running = new CountDownLatch(calls);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            threads.add(Thread.ofVirtual().start(() -> limiter.run(() -> {
+                running.countDown();
+                try {
+                    running.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            })));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    void testLimitGrowsBackToMaximum() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1000);
+        fail(limiter, 429);
+        fail(limiter, 429);
+        assertEquals(1, limiter.currentLimit());
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter);
+        }
+        assertEquals(4, limiter.currentLimit());
+        assertEquals(4, limiter.maxLimit());
+    }
+
+    @Test
+    void testLimitDoesNotGrowWhenUnused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 1000);
+        fail(limiter, 429);
+        fail(limiter, 429);
+        fail(limiter, 429);
+        assertEquals(2, limiter.currentLimit());
+
+        // sequential calls use a single permit, the limit grows only while half of it is in use
+        for (int i = 0; i < 50; i++) {
+            limiter.run(() -> { });
+        }
+        assertEquals(2, limiter.currentLimit());
+    }
+
+    @Test
+    void testLimitDecreasesOncePerCongestionWindow() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 1000);
+        CountDownLatch running = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofVirtual().start(() -> assertThrows(KubernetesClientException.class,
+                () -> limiter.run(() -> {
+                    running.countDown();
+                    try {
+                        running.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    throw new KubernetesClientException("throttled", 429, null);
+                }))));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // all calls ran in the same window, so the limit is cut only once
+        assertEquals(8, limiter.currentLimit());
+
+        fail(limiter, 429);
+        assertEquals(4, limiter.currentLimit());
+    }
+
+    @Test
+    void testMaxLimitMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0, 1000));
+    }
+
+    @Test
+    void testFixedLimitWhenNotAdaptive() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1000);
+        limiter.setAdaptive(false);
+
+        fail(limiter, 429);
+        assertEquals(4, limiter.currentLimit());
+        assertFalse(limiter.isAdaptive());
+    }
+
+    @Test
+    void testCallsAreQueuedOverLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> limiter.run(() -> {
+            running.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }));
+        running.await();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> limiter.run(() -> { }));
+
+        Wait.until("second call to be queued", 10, 5000, () -> limiter.queueDepth() == 1);
+        assertEquals(1, limiter.inFlight());
+        assertFalse(second.isDone());
+
+        finish.countDown();
+        first.join();
+        second.join();
+        assertEquals(0, limiter.queueDepth());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testOverloadDetection() {
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(new KubernetesClientException("throttled", 429, null)));
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(
+            new KubernetesClientException("timeout", new SocketTimeoutException())));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverload(new KubernetesClientException("conflict", 409, null)));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverload(new IllegalStateException()));
+    }
+}
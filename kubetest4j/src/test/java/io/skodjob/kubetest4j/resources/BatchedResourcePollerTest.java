@@ -0,0 +1,88 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.wait.Wait;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+@TestVisualSeparator
+class BatchedResourcePollerTest {
+    private KubernetesClient kubernetesClient;
+    private BatchedResourcePoller poller;
+
+    @BeforeEach
+    void setup() {
+        poller = new BatchedResourcePoller(Executors.newVirtualThreadPerTaskExecutor(), 200,
+            UnaryOperator.identity());
+    }
+
+    private static ConfigMap configMap(String name) {
+        return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("batched").endMetadata()
+            .build();
+    }
+
+    @Test
+    void testConditionAlreadyFulfilled() {
+        ConfigMap cm = kubernetesClient.resource(configMap("existing")).create();
+
+        assertTrue(poller.await(kubernetesClient, cm, Objects::nonNull, 5000));
+        Wait.until("poller to stop", 50, 5000, () -> poller.activePollers() == 0);
+    }
+
+    @Test
+    void testWaitersShareList() {
+        int waiters = 20;
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            ConfigMap cm = configMap("shared-" + i);
+            results.add(CompletableFuture.supplyAsync(() ->
+                poller.await(kubernetesClient, cm, Objects::nonNull, 10000)));
+        }
+        Wait.until("waiters to register", 50, 5000, () -> poller.activePollers() == 1);
+        for (int i = 0; i < waiters; i++) {
+            kubernetesClient.resource(configMap("shared-" + i)).create();
+        }
+
+        results.forEach(result -> assertTrue(result.join()));
+        assertTrue(poller.listCalls() < waiters, "Waiters should share LIST calls");
+        assertTrue(poller.savedCalls() > 0);
+    }
+
+    @Test
+    void testDeletionCondition() {
+        ConfigMap cm = kubernetesClient.resource(configMap("deleted")).create();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() ->
+            poller.await(kubernetesClient, cm, Objects::isNull, 10000));
+        kubernetesClient.resource(cm).delete();
+
+        assertTrue(waiter.join());
+    }
+
+    @Test
+    void testTimeout() {
+        assertFalse(poller.await(kubernetesClient, configMap("never-created"), Objects::nonNull, 500));
+        Wait.until("poller to stop", 50, 5000, () -> poller.activePollers() == 0);
+        assertEquals(0, poller.activePollers());
+    }
+}
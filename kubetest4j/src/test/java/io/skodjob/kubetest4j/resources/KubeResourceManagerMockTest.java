@@ -13,6 +13,7 @@ import io.skodjob.kubetest4j.clients.KubeClient;
 import io.skodjob.kubetest4j.interfaces.ResourceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.mockito.Mockito;
 
 import java.util.List;
@@ -145,4 +146,30 @@ public class KubeResourceManagerMockTest {
         assertTrue(runtimeException.getMessage().contains("This is test exception"),
             "Exception message should contain the original exception message");
     }
+
+    @Test
+    void testTestsWithSameDisplayNameHaveOwnStacks() throws Exception {
+        ExtensionContext first = mock(ExtensionContext.class);
+        ExtensionContext second = mock(ExtensionContext.class);
+        when(first.getDisplayName()).thenReturn("[1] param");
+        when(second.getDisplayName()).thenReturn("[1] param");
+        when(first.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:A]/[test-template:t()]/[invocation:#1]");
+        when(second.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:B]/[test-template:t()]/[invocation:#1]");
+        Namespace firstNamespace = new NamespaceBuilder().withNewMetadata().withName("first").endMetadata().build();
+        Namespace secondNamespace = new NamespaceBuilder().withNewMetadata().withName("second").endMetadata().build();
+        ExtensionContext previous = kubeResourceManager.getTestContext();
+
+        try (AutoCloseable ignored = kubeResourceManager.useTestContext(first)) {
+            kubeResourceManager.pushToStack(firstNamespace);
+            try (AutoCloseable nested = kubeResourceManager.useTestContext(second)) {
+                kubeResourceManager.pushToStack(secondNamespace);
+                assertEquals(List.of(secondNamespace), kubeResourceManager.getCurrentResources());
+                kubeResourceManager.removeFromStack(secondNamespace);
+            }
+            assertSame(first, kubeResourceManager.getTestContext());
+            assertEquals(List.of(firstNamespace), kubeResourceManager.getCurrentResources());
+            kubeResourceManager.removeFromStack(firstNamespace);
+        }
+        assertSame(previous, kubeResourceManager.getTestContext());
+    }
 }
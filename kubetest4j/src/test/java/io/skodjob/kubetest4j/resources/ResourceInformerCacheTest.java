@@ -0,0 +1,123 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.wait.Wait;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+@TestVisualSeparator
+class ResourceInformerCacheTest {
+    private KubernetesClient kubernetesClient;
+    private ResourceInformerCache cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new ResourceInformerCache(Executors.newVirtualThreadPerTaskExecutor(), 1000, 0);
+    }
+
+    private static ConfigMap configMap(String name) {
+        return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("informer").endMetadata()
+            .build();
+    }
+
+    private void waitForWatch() {
+        // mock server does not replay events missed between list and watch
+        Wait.until("informer to watch", 50, 5000, () -> cache.watchingInformers() == 1);
+    }
+
+    @Test
+    void testConditionAlreadyFulfilled() {
+        ConfigMap cm = kubernetesClient.resource(configMap("existing")).create();
+
+        assertTrue(cache.await(kubernetesClient, cm, Objects::nonNull, 5000));
+        assertEquals(0, cache.activeInformers(), "Informer should be stopped once there are no waiters");
+    }
+
+    @Test
+    void testConditionFulfilledOnUpdateEvent() {
+        ConfigMap cm = kubernetesClient.resource(configMap("updated")).create();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> cache.await(kubernetesClient, cm,
+            c -> c != null && c.getData() != null && "true".equals(c.getData().get("ready")), 10000));
+        waitForWatch();
+
+        kubernetesClient.configMaps().inNamespace("informer").withName("updated")
+            .edit(c -> new ConfigMapBuilder(c).withData(Map.of("ready", "true")).build());
+
+        assertTrue(waiter.join());
+    }
+
+    @Test
+    void testDeletionCondition() {
+        ConfigMap cm = kubernetesClient.resource(configMap("deleted")).create();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() ->
+            cache.await(kubernetesClient, cm, Objects::isNull, 10000));
+        waitForWatch();
+
+        kubernetesClient.resource(cm).delete();
+
+        assertTrue(waiter.join());
+    }
+
+    @Test
+    void testTimeout() {
+        ConfigMap cm = configMap("never-created");
+
+        assertFalse(cache.await(kubernetesClient, cm, Objects::nonNull, 500));
+        assertEquals(0, cache.activeInformers());
+    }
+
+    @Test
+    void testWaitersShareInformer() {
+        ConfigMap first = configMap("first");
+        ConfigMap second = configMap("second");
+
+        CompletableFuture<Boolean> firstWaiter = CompletableFuture.supplyAsync(() ->
+            cache.await(kubernetesClient, first, Objects::nonNull, 10000));
+        CompletableFuture<Boolean> secondWaiter = CompletableFuture.supplyAsync(() ->
+            cache.await(kubernetesClient, second, Objects::nonNull, 10000));
+        waitForWatch();
+        assertEquals(1, cache.activeInformers(), "Both waiters should use the same informer");
+
+        kubernetesClient.resource(first).create();
+        kubernetesClient.resource(second).create();
+
+        assertTrue(firstWaiter.join());
+        assertTrue(secondWaiter.join());
+        assertEquals(0, cache.activeInformers());
+    }
+
+    @Test
+    void testIdleInformerIsReusedAndStoppedAfterIdleTimeout() {
+        ResourceInformerCache lingering = new ResourceInformerCache(Executors.newVirtualThreadPerTaskExecutor(),
+            1000, 1000);
+        ConfigMap first = kubernetesClient.resource(configMap("idle-first")).create();
+        ConfigMap second = kubernetesClient.resource(configMap("idle-second")).create();
+
+        assertTrue(lingering.await(kubernetesClient, first, Objects::nonNull, 5000));
+        assertEquals(1, lingering.activeInformers(), "Idle informer should keep running for the next wait");
+        assertTrue(lingering.await(kubernetesClient, second, Objects::nonNull, 5000));
+        assertEquals(1, lingering.activeInformers(), "Next wait should reuse the idle informer");
+
+        Wait.until("idle informer to be stopped", 50, 5000, () -> lingering.activeInformers() == 0);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class ResourceJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static ConfigMap configMap(String name) {
+        return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("ns").endMetadata().build();
+    }
+
+    @Test
+    void testLeftoversAreCreatedAndNotDeleted() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata().build();
+
+        try (ResourceJournal journal = new ResourceJournal(path, 60_000)) {
+            journal.created("default", namespace);
+            journal.created("default", configMap("kept"));
+            journal.created("default", configMap("deleted"));
+            journal.deleted("default", configMap("deleted"));
+            journal.flush();
+
+            assertEquals(List.of(
+                new ResourceJournal.Entry("default", "v1", "Namespace", "", "ns"),
+                new ResourceJournal.Entry("default", "v1", "ConfigMap", "ns", "kept")
+            ), ResourceJournal.leftovers(journal.file()));
+            // resources of a running JVM are never recovered
+            assertTrue(journal.recoverable().isEmpty());
+        }
+
+        // a new run sees the same leftovers
+        try (ResourceJournal journal = new ResourceJournal(path, 60_000)) {
+            assertEquals(2, journal.recoverable().size());
+        }
+    }
+
+    @Test
+    void testPartialLineIsSkipped() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        Path file;
+        try (ResourceJournal journal = new ResourceJournal(path, 60_000)) {
+            journal.created("default", configMap("kept"));
+            file = journal.file();
+        }
+        // simulates a JVM killed in the middle of a write, the record is not terminated by a new line
+        Files.writeString(file, "C\tdefault\tv1\tConfigMap\tns\tke", StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        assertEquals(List.of(new ResourceJournal.Entry("default", "v1", "ConfigMap", "ns", "kept")),
+            ResourceJournal.leftovers(file));
+    }
+
+    @Test
+    void testForgetCompactsJournal() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        Path file;
+        try (ResourceJournal journal = new ResourceJournal(path, 60_000)) {
+            journal.created("default", configMap("first"));
+            journal.created("other", configMap("second"));
+            journal.created("default", configMap("third"));
+            journal.deleted("default", configMap("third"));
+            file = journal.file();
+        }
+
+        try (ResourceJournal journal = new ResourceJournal(path, 60_000)) {
+            journal.forget(List.of(new ResourceJournal.Entry("default", "v1", "ConfigMap", "ns", "first")));
+
+            assertEquals(List.of(new ResourceJournal.Entry("other", "v1", "ConfigMap", "ns", "second")),
+                journal.recoverable());
+            assertEquals(1, Files.readAllLines(file).size());
+
+            journal.forget(journal.recoverable());
+            assertFalse(Files.exists(file));
+        }
+    }
+
+    @Test
+    void testJournalsOfRunningForksAreNotRecovered() throws IOException {
+        Path path = tempDir.resolve("journal.log");
+        try (ResourceJournal first = new ResourceJournal(path, 60_000);
+             ResourceJournal second = new ResourceJournal(path, 60_000)) {
+            first.created("default", configMap("first"));
+            first.flush();
+
+            assertNotEquals(first.file(), second.file());
+            assertTrue(second.recoverable().isEmpty());
+            second.forget(List.of(new ResourceJournal.Entry("default", "v1", "ConfigMap", "ns", "first")));
+            assertEquals(1, ResourceJournal.leftovers(first.file()).size());
+        }
+    }
+
+    @Test
+    void testJournalWithoutLeftoversIsRemovedOnClose() throws IOException {
+        Path file;
+        try (ResourceJournal journal = new ResourceJournal(tempDir.resolve("journal.log"), 60_000)) {
+            journal.created("default", configMap("deleted"));
+            journal.deleted("default", configMap("deleted"));
+            file = journal.file();
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testMissingJournalHasNoLeftovers() {
+        assertTrue(ResourceJournal.leftovers(tempDir.resolve("missing.log")).isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class ResourceReferencesTest {
+
+    @Test
+    void testReferenceDropsContent() {
+        ConfigMap configMap = new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName("large")
+            .withNamespace("ns")
+            .withUid("uid")
+            .withResourceVersion("42")
+            .withLabels(Map.of("app", "test"))
+            .endMetadata()
+            .withData(Map.of("payload", "x".repeat(10_000)))
+            .build();
+
+        ConfigMap reference = ResourceReferences.reference(configMap);
+
+        assertEquals("ConfigMap", reference.getKind());
+        assertEquals("v1", reference.getApiVersion());
+        assertEquals("large", reference.getMetadata().getName());
+        assertEquals("ns", reference.getMetadata().getNamespace());
+        assertEquals("uid", reference.getMetadata().getUid());
+        assertEquals("42", reference.getMetadata().getResourceVersion());
+        assertTrue(reference.getMetadata().getLabels() == null || reference.getMetadata().getLabels().isEmpty());
+        assertNull(reference.getData());
+    }
+
+    @Test
+    void testReferenceOfGenericResourceKeepsKind() {
+        GenericKubernetesResource resource = new GenericKubernetesResourceBuilder()
+            .withApiVersion("example.io/v1")
+            .withKind("Example")
+            .withNewMetadata().withName("custom").withNamespace("ns").endMetadata()
+            .withAdditionalProperties(Map.of("spec", Map.of("replicas", 3)))
+            .build();
+
+        GenericKubernetesResource reference = ResourceReferences.reference(resource);
+
+        assertEquals("Example", reference.getKind());
+        assertEquals("example.io/v1", reference.getApiVersion());
+        assertEquals("custom", reference.getMetadata().getName());
+        assertTrue(reference.getAdditionalProperties().isEmpty());
+    }
+}
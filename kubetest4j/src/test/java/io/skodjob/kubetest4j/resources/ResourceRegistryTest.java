@@ -0,0 +1,96 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class ResourceRegistryTest {
+
+    private static ResourceItem<ConfigMap> item(String namespace, String name) {
+        return new ResourceItem<>(() -> { }, new ConfigMapBuilder().withNewMetadata().withName(name)
+            .withNamespace(namespace).endMetadata().build());
+    }
+
+    @Test
+    void testInsertionOrderIsKept() {
+        ResourceRegistry registry = new ResourceRegistry();
+        ResourceItem<ConfigMap> first = item("ns", "first");
+        ResourceItem<?> runner = new ResourceItem<>(() -> { });
+        ResourceItem<ConfigMap> last = item("ns", "last");
+
+        registry.push(first);
+        registry.push(runner);
+        registry.push(last);
+
+        assertEquals(List.of(first, runner, last), registry.snapshot());
+        assertEquals(List.of(last, runner, first), registry.drain());
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void testRemoveByKindNamespaceAndName() {
+        ResourceRegistry registry = new ResourceRegistry();
+        ResourceItem<ConfigMap> kept = item("other", "config");
+        registry.push(item("ns", "config"));
+        registry.push(kept);
+        registry.push(item("ns", "config"));
+
+        assertEquals(2, registry.remove(item("ns", "config").resource()));
+        assertEquals(0, registry.remove(item("ns", "missing").resource()));
+        assertEquals(List.of(kept), registry.snapshot());
+    }
+
+    @Test
+    void testConcurrentPushAndRemove() {
+        int threads = 32;
+        int perThread = 10_000;
+        ResourceRegistry registry = new ResourceRegistry();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    String namespace = "ns-" + t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            registry.push(item(namespace, "config-" + i));
+                        }
+                        // every other resource is deleted while other threads keep pushing
+                        for (int i = 0; i < perThread; i += 2) {
+                            registry.remove(item(namespace, "config-" + i).resource());
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        });
+
+        assertEquals(threads * perThread / 2, registry.size());
+        assertEquals(threads * perThread / 2, registry.drain().size());
+        assertTrue(registry.isEmpty());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.resources;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class TeardownPlanTest {
+
+    private static ResourceItem<Namespace> namespace(String name) {
+        return new ResourceItem<>(() -> { }, new NamespaceBuilder().withNewMetadata().withName(name).endMetadata()
+            .build());
+    }
+
+    private static ResourceItem<ConfigMap> configMap(String namespace, String name) {
+        return new ResourceItem<>(() -> { }, new ConfigMapBuilder().withNewMetadata().withName(name)
+            .withNamespace(namespace).endMetadata().build());
+    }
+
+    @Test
+    void testResourcesInManagedNamespaceAreCollapsed() {
+        ResourceItem<ConfigMap> first = configMap("managed", "first");
+        ResourceItem<ConfigMap> second = configMap("managed", "second");
+        ResourceItem<ConfigMap> outside = configMap("other", "outside");
+        ResourceItem<Namespace> managed = namespace("managed");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(first, outside, second, managed), item -> true);
+
+        assertEquals(List.of(outside, managed), plan.itemsToDelete());
+        assertEquals(List.of(first, second), plan.collapsedInto(managed));
+        assertEquals(2, plan.collapsedCount());
+    }
+
+    @Test
+    void testNonCollapsibleResourcesAreDeletedIndividually() {
+        ResourceItem<ConfigMap> custom = configMap("managed", "custom");
+        ResourceItem<ConfigMap> plain = configMap("managed", "plain");
+        ResourceItem<Namespace> managed = namespace("managed");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(custom, plain, managed),
+            item -> !"custom".equals(item.resource().getMetadata().getName()));
+
+        assertEquals(List.of(custom, managed), plan.itemsToDelete());
+        assertEquals(List.of(plain), plan.collapsedInto(managed));
+    }
+
+    @Test
+    void testNothingIsCollapsedIntoNamespaceWithCustomDeletion() {
+        ResourceItem<ConfigMap> inside = configMap("managed", "inside");
+        ResourceItem<Namespace> managed = namespace("managed");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(inside, managed), item -> item != managed);
+
+        assertEquals(List.of(inside, managed), plan.itemsToDelete());
+        assertEquals(0, plan.collapsedCount());
+    }
+
+    @Test
+    void testItemsWithoutResourceAreKept() {
+        ResourceItem<?> runner = new ResourceItem<>(() -> { });
+        ResourceItem<Namespace> managed = namespace("managed");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(runner, managed), item -> true);
+
+        assertEquals(List.of(runner, managed), plan.itemsToDelete());
+        assertTrue(plan.collapsedInto(managed).isEmpty());
+        assertEquals(0, plan.collapsedCount());
+    }
+
+    @Test
+    void testDependenciesAreOrderedIntoWaves() {
+        ResourceItem<?> binding = item("rbac.authorization.k8s.io/v1", "RoleBinding", "ns", "binding");
+        ResourceItem<?> account = item("v1", "ServiceAccount", "ns", "account");
+        ResourceItem<?> custom = item("example.io/v1", "Example", "ns", "custom");
+        ResourceItem<?> crd = item("apiextensions.k8s.io/v1", "CustomResourceDefinition", null,
+            "examples.example.io");
+        ResourceItem<ConfigMap> independent = configMap("ns", "independent");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(crd, account, independent, binding, custom), item -> true);
+
+        assertEquals(List.of(List.of(independent, binding, custom), List.of(crd, account)), plan.waves());
+    }
+
+    @Test
+    void testResourcesWaitForEveryCrdOfTheirGroup() {
+        ResourceItem<?> first = item("apiextensions.k8s.io/v1", "CustomResourceDefinition", null,
+            "examples.example.io");
+        ResourceItem<?> second = item("apiextensions.k8s.io/v1", "CustomResourceDefinition", null,
+            "samples.example.io");
+        ResourceItem<?> sample = item("example.io/v1", "Sample", "ns", "sample");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(first, second, sample), item -> true);
+
+        assertEquals(List.of(List.of(sample), List.of(first, second)), plan.waves());
+    }
+
+    @Test
+    void testItemsWithoutResourceAreBarriers() {
+        ResourceItem<ConfigMap> first = configMap("ns", "first");
+        ResourceItem<ConfigMap> second = configMap("ns", "second");
+        ResourceItem<?> runner = new ResourceItem<>(() -> { });
+        ResourceItem<ConfigMap> third = configMap("ns", "third");
+        ResourceItem<ConfigMap> fourth = configMap("ns", "fourth");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(first, second, runner, third, fourth), item -> true);
+
+        assertEquals(List.of(List.of(first, second), List.of(runner), List.of(third, fourth)), plan.waves());
+    }
+
+    @Test
+    void testOwnerIsDeletedBeforeOwnedResource() {
+        ResourceItem<ConfigMap> owned = new ResourceItem<>(() -> { }, new ConfigMapBuilder().withNewMetadata()
+            .withName("owned").withNamespace("ns")
+            .addNewOwnerReference().withKind("ConfigMap").withName("owner").endOwnerReference()
+            .endMetadata().build());
+        ResourceItem<ConfigMap> owner = configMap("ns", "owner");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(owned, owner), item -> true);
+
+        assertEquals(List.of(List.of(owner), List.of(owned)), plan.waves());
+    }
+
+    @Test
+    void testNotCollapsedResourcesAreDeletedBeforeNamespace() {
+        ResourceItem<ConfigMap> custom = configMap("managed", "custom");
+        ResourceItem<Namespace> managed = namespace("managed");
+        ResourceItem<Namespace> other = namespace("other");
+
+        TeardownPlan plan = TeardownPlan.of(List.of(custom, managed, other), item -> false);
+
+        assertEquals(List.of(List.of(custom, other), List.of(managed)), plan.waves());
+    }
+
+    private static ResourceItem<?> item(String apiVersion, String kind, String namespace, String name) {
+        return new ResourceItem<>(() -> { }, new GenericKubernetesResourceBuilder().withApiVersion(apiVersion)
+            .withKind(kind).withNewMetadata().withName(name).withNamespace(namespace).endMetadata().build());
+    }
+}
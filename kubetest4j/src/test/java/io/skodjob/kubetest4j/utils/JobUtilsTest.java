@@ -78,7 +78,7 @@ class JobUtilsTest {
     @BeforeEach
     void setUp() {
         mockedStaticKubeResourceManager = mockStatic(KubeResourceManager.class);
-        lenient().when(KubeResourceManager.get()).thenReturn(mockKubeResourceManager);
+        lenient().when(KubeResourceManager.current()).thenReturn(mockKubeResourceManager);
 
         lenient().when(mockKubeResourceManager.kubeClient()).thenReturn(mockKubeClient);
         lenient().when(mockKubeClient.getClient()).thenReturn(mockKubernetesClient);
@@ -65,7 +65,7 @@ class KubeUtilsTest {
     @Test
     void testLabelNamespaceNotExists() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             when(kubeClient.namespaceExists(anyString())).thenReturn(false);
 
@@ -76,7 +76,7 @@ class KubeUtilsTest {
     @Test
     void testIsOcpTrue() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             ExecResult execResult = mock(ExecResult.class);
             when(cmdClient.exec(anyBoolean(), anyBoolean(), anyString())).thenReturn(execResult);
@@ -91,7 +91,7 @@ class KubeUtilsTest {
     @Test
     void testIsOcpFalse() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             ExecResult execResult = mock(ExecResult.class);
             when(cmdClient.exec(anyBoolean(), anyBoolean(), anyString())).thenReturn(execResult);
@@ -106,7 +106,7 @@ class KubeUtilsTest {
     @Test
     void testIsMultinodeTrue() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             NonNamespaceOperation<Node, NodeList, Resource<Node>> nodesOp = mock(NonNamespaceOperation.class);
@@ -139,7 +139,7 @@ class KubeUtilsTest {
     @Test
     void testIsMultinodeFalse() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             NonNamespaceOperation<Node, NodeList, Resource<Node>> nodesOp = mock(NonNamespaceOperation.class);
@@ -166,7 +166,7 @@ class KubeUtilsTest {
     @Test
     void testLabelNamespaceSuccess() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             NonNamespaceOperation<Namespace, io.fabric8.kubernetes.api.model.NamespaceList,
@@ -195,7 +195,7 @@ class KubeUtilsTest {
     @Test
     void testLabelNamespaceFailedEditing() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             NonNamespaceOperation<Namespace, io.fabric8.kubernetes.api.model.NamespaceList,
@@ -226,7 +226,7 @@ class KubeUtilsTest {
     @Test
     void testApproveInstallPlan() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<InstallPlan, InstallPlanList, Resource<InstallPlan>> installPlansOp =
@@ -267,7 +267,7 @@ class KubeUtilsTest {
     @Test
     void testGetNonApprovedInstallPlanFound() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<InstallPlan, InstallPlanList, Resource<InstallPlan>> installPlansOp =
@@ -311,7 +311,7 @@ class KubeUtilsTest {
     @Test
     void testGetNonApprovedInstallPlanNotFound() {
         try (MockedStatic<KubeResourceManager> mockedStatic = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<InstallPlan, InstallPlanList, Resource<InstallPlan>> installPlansOp =
@@ -24,14 +24,17 @@ import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
 import io.skodjob.kubetest4j.clients.KubeClient;
 import io.skodjob.kubetest4j.resources.KubeResourceManager;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -56,7 +59,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithSuccessfulPods() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -90,7 +93,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithLabelSelector() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -131,7 +134,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithZeroExpected() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -158,7 +161,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithRestart() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -194,7 +197,7 @@ class PodUtilsTest {
     @Test
     void testPodSnapshot() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -237,7 +240,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithContainersReady() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -282,7 +285,7 @@ class PodUtilsTest {
     @Test
     void testVerifyThatPodsAreStable() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -319,7 +322,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithRestartBasicPath() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -350,7 +353,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithLabelSelectorAndContainers() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -407,7 +410,7 @@ class PodUtilsTest {
         // This tests imports and basic class structure without calling Wait.until()
 
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -429,7 +432,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithContainerReadyTrueNoTerminated() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -463,7 +466,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithTerminatedCompletedNotReady() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -501,7 +504,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithNullContainerStatuses() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -557,7 +560,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyNoNamespaceWithNullContainerStatuses() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -602,7 +605,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithContainerNullState() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -651,7 +654,7 @@ class PodUtilsTest {
     @Test
     void testWaitForPodsReadyWithTerminatedNonCompletedReason() {
         try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
 
             @SuppressWarnings("unchecked")
             MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
@@ -701,4 +704,39 @@ class PodUtilsTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void testWaitForPodsReadyFailsFastOnImagePullBackOff() {
+        try (MockedStatic<KubeResourceManager> ignored = mockStatic(KubeResourceManager.class)) {
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
+            when(kubeResourceManager.isFailFastWaits()).thenReturn(true);
+
+            @SuppressWarnings("unchecked")
+            MixedOperation<Pod, PodList, PodResource> podsOperation = mock(MixedOperation.class);
+            @SuppressWarnings("unchecked")
+            NonNamespaceOperation<Pod, PodList, PodResource> podsInNamespace = mock(NonNamespaceOperation.class);
+
+            Pod pullingPod = new PodBuilder()
+                .withNewMetadata().withName("pulling-pod").withNamespace("test").endMetadata()
+                .withNewStatus()
+                .withPhase("Pending")
+                .withContainerStatuses(new ContainerStatusBuilder()
+                    .withName("app")
+                    .withState(new ContainerStateBuilder().withNewWaiting()
+                        .withReason("ImagePullBackOff").withMessage("Back-off pulling image").endWaiting().build())
+                    .build())
+                .endStatus()
+                .build();
+
+            when(kubernetesClient.pods()).thenReturn(podsOperation);
+            when(podsOperation.inNamespace(anyString())).thenReturn(podsInNamespace);
+            when(podsInNamespace.list()).thenReturn(new PodListBuilder().withItems(pullingPod).build());
+
+            WaitAbortedException ex = assertThrows(WaitAbortedException.class, () ->
+                PodUtils.waitForPodsReady("test", false, () -> { }));
+            assertTrue(ex.getMessage().contains("ImagePullBackOff"));
+            assertEquals(Optional.empty(), PodUtils.getTerminalFailure(new PodBuilder().build()));
+        } finally {
+            when(kubeResourceManager.isFailFastWaits()).thenReturn(false);
+        }
+    }
+}
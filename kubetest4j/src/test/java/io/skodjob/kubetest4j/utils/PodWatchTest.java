@@ -0,0 +1,155 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.utils;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.wait.Wait;
+import io.skodjob.kubetest4j.wait.WaitAbortedException;
+import io.skodjob.kubetest4j.wait.WaitTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+@TestVisualSeparator
+class PodWatchTest {
+    private static final String NAMESPACE = "pod-watch";
+
+    private KubernetesClient kubernetesClient;
+
+    private void createPod(String name, PodStatus status) {
+        kubernetesClient.resource(new PodBuilder().withNewMetadata()
+            .withName(name).withNamespace(NAMESPACE).endMetadata().build()).create();
+        updateStatus(name, status);
+    }
+
+    private void updateStatus(String name, PodStatus status) {
+        Pod current = kubernetesClient.pods().inNamespace(NAMESPACE).withName(name).get();
+        kubernetesClient.resource(new PodBuilder(current).withStatus(status).build()).updateStatus();
+    }
+
+    private static PodStatus running(boolean ready, int restarts) {
+        return new PodStatusBuilder().withPhase("Running")
+            .addNewCondition().withType("Ready").withStatus(ready ? "True" : "False").endCondition()
+            .addNewContainerStatus().withName("app").withReady(ready).withRestartCount(restarts).endContainerStatus()
+            .build();
+    }
+
+    private PodWatch startWatch() {
+        PodWatch watch = PodWatch.start(kubernetesClient, NAMESPACE, null, 5000);
+        // mock server does not replay events missed between list and watch
+        Wait.until("Pod informer to watch", 50, 5000, watch::isWatching);
+        return watch;
+    }
+
+    private static WaitTelemetry.Measurement measurement() {
+        return WaitTelemetry.start("pod watch test", "Pod", 0);
+    }
+
+    @Test
+    void testReadyOnceLastPodTurnsReady() {
+        createPod("first", running(false, 0));
+        createPod("second", running(false, 0));
+
+        try (PodWatch watch = startWatch()) {
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> watch.awaitCondition(
+                pods -> !pods.isEmpty() && pods.stream().allMatch(Readiness::isPodReady), 10000, measurement()));
+
+            updateStatus("first", running(true, 0));
+            assertFalse(waiter.isDone());
+            updateStatus("second", running(true, 0));
+
+            assertTrue(waiter.join());
+        }
+    }
+
+    @Test
+    void testStableAfterQuietWindow() {
+        createPod("stable", running(true, 0));
+
+        try (PodWatch watch = startWatch()) {
+            assertTrue(watch.awaitQuiet("Running", 200, 5000, measurement()));
+        }
+    }
+
+    @Test
+    void testRestartRestartsQuietWindow() throws InterruptedException {
+        createPod("restarting", running(true, 0));
+
+        try (PodWatch watch = startWatch()) {
+            long start = System.currentTimeMillis();
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() ->
+                watch.awaitQuiet("Running", 1000, 10000, measurement()));
+
+            Thread.sleep(500);
+            updateStatus("restarting", running(true, 1));
+
+            assertTrue(waiter.join());
+            assertTrue(System.currentTimeMillis() - start >= 1400, "Restart should restart the quiet window");
+        }
+    }
+
+    @Test
+    void testRelistedPodIsNotDisruption() throws InterruptedException {
+        createPod("relisted", running(true, 0));
+
+        try (PodWatch watch = startWatch()) {
+            long start = System.currentTimeMillis();
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() ->
+                watch.awaitQuiet("Running", 2000, 10000, measurement()));
+
+            Thread.sleep(1000);
+            // a relist of the informer re-adds the unchanged Pod
+            watch.onAdd(kubernetesClient.pods().inNamespace(NAMESPACE).withName("relisted").get());
+
+            assertTrue(waiter.join());
+            assertTrue(System.currentTimeMillis() - start < 2900, "Relisted Pod should not restart the quiet window");
+        }
+    }
+
+    @Test
+    void testConditionExceptionMeansNotYet() {
+        createPod("evaluated", running(false, 0));
+
+        try (PodWatch watch = startWatch()) {
+            AtomicInteger evaluations = new AtomicInteger();
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> watch.awaitCondition(pods -> {
+                if (evaluations.incrementAndGet() == 1) {
+                    throw new IllegalStateException("status not reported yet");
+                }
+                return pods.stream().allMatch(Readiness::isPodReady);
+            }, 10000, measurement()));
+
+            Wait.until("first evaluation", 10, 5000, () -> evaluations.get() > 0);
+            updateStatus("evaluated", running(true, 0));
+
+            assertTrue(waiter.join());
+            assertThrows(WaitAbortedException.class, () -> watch.awaitCondition(pods -> {
+                throw new WaitAbortedException("never ready");
+            }, 10000, measurement()));
+        }
+    }
+
+    @Test
+    void testPodOutOfPhaseIsNotStable() {
+        createPod("pending", new PodStatusBuilder().withPhase("Pending").build());
+
+        try (PodWatch watch = startWatch()) {
+            assertFalse(watch.awaitQuiet("Running", 100, 1000, measurement()));
+        }
+    }
+}
@@ -50,7 +50,7 @@ public class ResourceUtilsTest {
                 Resource<GenericKubernetesResource>> nonNamespaceOperation = mock(NonNamespaceOperation.class);
             Resource<GenericKubernetesResource> resource = mock(Resource.class);
 
-            when(KubeResourceManager.get()).thenReturn(kubeResourceManager);
+            when(KubeResourceManager.current()).thenReturn(kubeResourceManager);
             GenericKubernetesResource expectedReturnedResource = new GenericKubernetesResourceBuilder()
                 .withKind("Secret")
                 .withApiVersion("v1")
@@ -0,0 +1,110 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class HashedWheelSchedulerTest {
+
+    private final Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Test
+    void testTaskRunsAfterDelay() throws Exception {
+        HashedWheelScheduler scheduler = new HashedWheelScheduler(10, 8, executor, "test-wheel");
+        CompletableFuture<Long> ranAt = new CompletableFuture<>();
+        long start = System.nanoTime();
+
+        // 200 ms is more than one rotation of the 8 x 10 ms wheel
+        scheduler.schedule(() -> ranAt.complete(System.nanoTime()), 200);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(ranAt.get(5, TimeUnit.SECONDS) - start);
+        assertTrue(elapsedMs >= 200, "Task ran too early after " + elapsedMs + " ms");
+        assertEquals(0, scheduler.activeWaiters());
+    }
+
+    @Test
+    void testCancelledTaskDoesNotRun() throws Exception {
+        HashedWheelScheduler scheduler = new HashedWheelScheduler(10, 8, executor, "test-wheel");
+        AtomicInteger runs = new AtomicInteger();
+
+        HashedWheelScheduler.Timeout timeout = scheduler.schedule(runs::incrementAndGet, 100);
+        assertEquals(1, scheduler.activeWaiters());
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, scheduler.activeWaiters());
+
+        Thread.sleep(300);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testManyWaiters() throws Exception {
+        HashedWheelScheduler scheduler = new HashedWheelScheduler(10, 512, executor, "test-wheel");
+        int waiters = 10_000;
+        CountDownLatch done = new CountDownLatch(waiters / 2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+
+        for (int i = 0; i < waiters; i++) {
+            if (i % 2 == 0) {
+                scheduler.schedule(done::countDown, i % 500);
+            } else {
+                scheduler.schedule(cancelledRuns::incrementAndGet, 1_000 + i % 500).cancel();
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Not all of the waiters finished");
+        assertEquals(0, scheduler.activeWaiters());
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    void testThreadStopsWhenIdleAndRestarts() throws Exception {
+        HashedWheelScheduler scheduler = new HashedWheelScheduler(10, 8, 50, executor, "test-wheel");
+        assertFalse(scheduler.isRunning());
+
+        CountDownLatch first = new CountDownLatch(1);
+        scheduler.schedule(first::countDown, 20);
+        assertTrue(scheduler.isRunning());
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        long stopDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.isRunning() && System.nanoTime() < stopDeadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(scheduler.isRunning(), "Idle scheduler thread did not stop");
+
+        CountDownLatch second = new CountDownLatch(1);
+        scheduler.schedule(second::countDown, 20);
+        assertTrue(second.await(5, TimeUnit.SECONDS), "Task scheduled after the stop did not run");
+    }
+
+    @Test
+    void testCancelledAsyncWaitStopsPolling() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        CompletableFuture<Void> future = Wait.untilAsync("Test async cancel", PollStrategy.fixed(50), 10_000,
+            () -> polls.incrementAndGet() < 0);
+
+        Thread.sleep(200);
+        future.cancel(false);
+        int pollsAtCancel = polls.get();
+        Thread.sleep(300);
+
+        // at most the poll running at the time of the cancellation finishes
+        assertTrue(polls.get() <= pollsAtCancel + 1, "Polling continued after cancellation");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class PollStrategyTest {
+
+    @Test
+    void testFixed() {
+        PollStrategy strategy = PollStrategy.fixed(1000);
+        assertEquals(List.of(1000L, 1000L, 1000L), delays(strategy, 3));
+        assertEquals(1000, strategy.maxDelayMs());
+    }
+
+    @Test
+    void testExponentialIsCapped() {
+        PollStrategy strategy = PollStrategy.exponential(100, 2, 500);
+        assertEquals(List.of(100L, 200L, 400L, 500L, 500L), delays(strategy, 5));
+        assertEquals(500, strategy.maxDelayMs());
+    }
+
+    @Test
+    void testFastStartRampsUpToCap() {
+        assertEquals(List.of(50L, 100L, 250L, 500L, 1000L, 2000L, 4000L, 5000L, 5000L),
+            delays(PollStrategy.fastStart(5000), 9));
+        assertEquals(List.of(50L, 100L, 200L, 200L), delays(PollStrategy.fastStart(200), 4));
+    }
+
+    @Test
+    void testDecorrelatedJitterStaysInBounds() {
+        PollStrategy strategy = PollStrategy.decorrelatedJitter(100, 2000);
+        long previous = 0;
+        for (int attempt = 0; attempt < 100; attempt++) {
+            long delay = strategy.nextDelayMs(attempt, previous);
+            assertTrue(delay >= 100 && delay <= Math.min(2000, Math.max(100, previous * 3)),
+                "Unexpected delay " + delay + " after " + previous);
+            previous = delay;
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PollStrategy.fixed(0));
+        assertThrows(IllegalArgumentException.class, () -> PollStrategy.exponential(100, 0.5, 1000));
+        assertThrows(IllegalArgumentException.class, () -> PollStrategy.decorrelatedJitter(-1, 1000));
+    }
+
+    @Test
+    void testFastStartDetectsReadinessEarly() {
+        long readyAt = System.currentTimeMillis() + 300;
+        long start = System.currentTimeMillis();
+        Wait.until("Test fast start", PollStrategy.fastStart(10_000), 5_000,
+            () -> System.currentTimeMillis() >= readyAt);
+        // fixed 10 s interval would notice the readiness after 10 s
+        assertTrue(System.currentTimeMillis() - start < 2_000);
+    }
+
+    @Test
+    void testAsyncWithStrategy() {
+        long readyAt = System.currentTimeMillis() + 300;
+        Wait.untilAsync("Test async fast start", PollStrategy.fastStart(10_000), 5_000,
+            () -> System.currentTimeMillis() >= readyAt).join();
+    }
+
+    private static List<Long> delays(PollStrategy strategy, int count) {
+        List<Long> delays = new ArrayList<>();
+        long previous = 0;
+        for (int attempt = 0; attempt < count; attempt++) {
+            previous = strategy.nextDelayMs(attempt, previous);
+            delays.add(previous);
+        }
+        return delays;
+    }
+}
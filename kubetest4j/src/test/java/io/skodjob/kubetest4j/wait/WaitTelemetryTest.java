@@ -0,0 +1,139 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.skodjob.kubetest4j.wait;
+
+import io.skodjob.kubetest4j.annotations.TestVisualSeparator;
+import io.skodjob.kubetest4j.enums.WaitOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestVisualSeparator
+class WaitTelemetryTest {
+
+    @AfterEach
+    void resetResolver() {
+        WaitTelemetry.resetTestResolver();
+    }
+
+    @Test
+    void testSuccessfulWaitIsRecorded() {
+        String kind = uniqueKind();
+        AtomicInteger count = new AtomicInteger();
+        WaitTelemetry.withKind(kind, () -> Wait.until("successful wait", 10, 5_000, () -> {
+            if (count.incrementAndGet() == 1) {
+                throw new IllegalStateException("not yet");
+            }
+            return count.get() == 3;
+        }));
+
+        WaitRecord wait = recordOf(kind).orElseThrow();
+        assertEquals(WaitOutcome.SUCCESS, wait.outcome());
+        assertEquals(kind, wait.kind());
+        assertEquals(3, wait.probes());
+        assertEquals(1, wait.exceptions());
+        assertEquals(5_000, wait.timeoutMs());
+    }
+
+    @Test
+    void testTimeoutAndAbortAreRecorded() {
+        String timedOut = uniqueKind();
+        WaitTelemetry.withKind(timedOut, () ->
+            assertThrows(WaitException.class, () -> Wait.until("timed out wait", 10, 50, () -> false)));
+        assertEquals(WaitOutcome.TIMEOUT, recordOf(timedOut).orElseThrow().outcome());
+
+        String aborted = uniqueKind();
+        WaitTelemetry.withKind(aborted, () ->
+            assertThrows(WaitAbortedException.class, () -> Wait.until("aborted wait", 10, 5_000, () -> {
+                throw new WaitAbortedException("never ready");
+            })));
+        assertEquals(WaitOutcome.ABORTED, recordOf(aborted).orElseThrow().outcome());
+    }
+
+    @Test
+    void testKindAndTestAreRecorded() {
+        String kind = uniqueKind();
+        assertTrue(WaitTelemetry.setTestResolver(() -> "WaitTelemetryTest#testKindAndTestAreRecorded"));
+        WaitTelemetry.withKind(kind, () -> Wait.until("wait of a test", 10, 1_000, () -> true));
+
+        WaitRecord wait = recordOf(kind).orElseThrow();
+        assertEquals(kind, wait.kind());
+        assertEquals("WaitTelemetryTest#testKindAndTestAreRecorded", wait.test());
+    }
+
+    @Test
+    void testTestResolverIsSetOnce() {
+        String kind = uniqueKind();
+        assertTrue(WaitTelemetry.setTestResolver(() -> "first"));
+        assertFalse(WaitTelemetry.setTestResolver(() -> "second"));
+        WaitTelemetry.withKind(kind, () -> Wait.until("wait with the first resolver", 10, 1_000, () -> true));
+
+        assertEquals("first", recordOf(kind).orElseThrow().test());
+    }
+
+    @Test
+    void testOnlySlowestWaitsAreKeptPerKind() {
+        String kind = uniqueKind();
+        for (int i = 0; i < WaitTelemetry.SLOWEST_PER_KIND * 2; i++) {
+            WaitTelemetry.start("wait " + i, kind, 1_000).finish(WaitOutcome.SUCCESS);
+        }
+        AtomicInteger count = new AtomicInteger();
+        WaitTelemetry.withKind(kind, () -> Wait.until("slow wait", 10, 5_000, () -> count.incrementAndGet() == 5));
+
+        List<WaitRecord> slowest = WaitTelemetry.slowest(kind);
+        assertEquals(WaitTelemetry.SLOWEST_PER_KIND, slowest.size());
+        assertEquals("slow wait", slowest.get(0).description());
+        assertTrue(WaitTelemetry.report(10).contains(String.format("%-30s %6d", kind,
+            WaitTelemetry.SLOWEST_PER_KIND * 2 + 1)));
+    }
+
+    @Test
+    void testAsyncWaitIsRecorded() {
+        String kind = uniqueKind();
+        AtomicInteger count = new AtomicInteger();
+        WaitTelemetry.withKind(kind, () ->
+            Wait.untilAsync("async wait", 10, 5_000, () -> count.incrementAndGet() == 2).join());
+
+        // the record is added by a completion stage of the future
+        Wait.until("async wait to be recorded", 10, 5_000, () -> recordOf(kind).isPresent());
+        WaitRecord wait = recordOf(kind).orElseThrow();
+        assertEquals(WaitOutcome.SUCCESS, wait.outcome());
+        assertEquals(2, wait.probes());
+    }
+
+    @Test
+    void testReportRanksSlowestWaits() {
+        String fast = "fast " + UUID.randomUUID();
+        String slow = "slow " + UUID.randomUUID();
+        WaitTelemetry.setTestResolver(() -> "ReportTest#slow");
+        WaitTelemetry.withKind("ReportKind", () -> {
+            Wait.until(fast, 10, 1_000, () -> true);
+            AtomicInteger count = new AtomicInteger();
+            Wait.until(slow, 10, 1_000, () -> count.incrementAndGet() == 5);
+        });
+
+        String report = WaitTelemetry.report(10);
+        assertTrue(report.contains("ReportKind"), report);
+        assertTrue(report.indexOf(slow) < report.indexOf(fast), report);
+        assertTrue(report.contains("ReportTest#slow"), report);
+    }
+
+    private static String uniqueKind() {
+        return "telemetry-" + UUID.randomUUID();
+    }
+
+    private static Optional<WaitRecord> recordOf(String kind) {
+        return WaitTelemetry.slowest(kind).stream().findFirst();
+    }
+}
@@ -105,6 +105,18 @@ public class BuildConfigType implements ResourceType<BuildConfig> {
             .withName(resource.getMetadata().getName()).isReady();
     }
 
+    /**
+     * Checks readiness of the given state of {@link BuildConfig} without fetching it again
+     *
+     * @param resource current state of the resource
+     * @return result of the readiness check
+     */
+    @Override
+    public boolean isReadyState(BuildConfig resource) {
+        return resource != null && KubeResourceManager.current().kubeClient().getOpenShiftClient().getConfiguration()
+            .getReadiness().isReady(resource);
+    }
+
     /**
      * Waits for {@link BuildConfig} to be deleted
      *
@@ -104,6 +104,18 @@ public class ImageStreamType implements ResourceType<ImageStream> {
             .withName(resource.getMetadata().getName()).isReady();
     }
 
+    /**
+     * Checks readiness of the given state of {@link ImageStream} without fetching it again
+     *
+     * @param resource current state of the resource
+     * @return result of the readiness check
+     */
+    @Override
+    public boolean isReadyState(ImageStream resource) {
+        return resource != null && KubeResourceManager.current().kubeClient().getOpenShiftClient().getConfiguration()
+            .getReadiness().isReady(resource);
+    }
+
     /**
      * Waits for {@link ImageStream} to be deleted
      *